@@ -0,0 +1,65 @@
+package game;
+
+import context.GameContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Particle update and draw for a burst of particles (finished ones are respawned so the count stays fixed)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class ParticleBenchmark {
+
+    private static final Color[] COLORS = {Color.WHITE, Color.YELLOW, new Color(255, 120, 40), new Color(80, 160, 255)};
+
+    @Param({"50", "500", "5000"})
+    public int count;
+
+    private ParticleSystem particles;
+    private final Random random = new Random(42);
+    private BufferedImage frame;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        particles = new ParticleSystem(count);
+        respawn();
+        frame = new BufferedImage(GameContext.BOARD_WIDTH, GameContext.BOARD_HEIGHT, BufferedImage.TYPE_INT_RGB);
+    }
+
+    private void respawn() {
+        while (particles.remaining() > 0) {
+            particles.spawn(GameContext.BOARD_WIDTH / 2.0, GameContext.BOARD_HEIGHT / 2.0,
+                    (random.nextDouble() - 0.5) * 8, (random.nextDouble() - 0.5) * 8,
+                    20 + random.nextInt(40), COLORS[random.nextInt(COLORS.length)]);
+        }
+    }
+
+    @Benchmark
+    public int update() {
+        particles.update();
+        int alive = particles.size();
+        respawn();
+        return alive;
+    }
+
+    @Benchmark
+    public BufferedImage draw() {
+        Graphics2D g = frame.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            particles.draw(g);
+        } finally {
+            g.dispose();
+        }
+        return frame;
+    }
+}
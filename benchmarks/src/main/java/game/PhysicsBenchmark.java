@@ -0,0 +1,58 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classic mode physics: AI trajectory prediction, paddle bounce and a whole simulation tick
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class PhysicsBenchmark {
+
+    private PongSimulation simulation;
+    private SimulationState state;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        simulation = new PongSimulation();
+        state = new SimulationState();
+        state.random = new Random(42);
+        state.aiDifficultySetting = 3;
+        simulation.resetBall(state);
+    }
+
+    @Benchmark
+    public double ballTrajectory() {
+        // Ball heading to the AI side with a few wall bounces ahead
+        state.ballX = 200;
+        state.ballY = 150;
+        state.ballVX = 6.0;
+        state.ballVY = -7.5;
+        return simulation.calculateAdvancedBallTrajectory(state);
+    }
+
+    @Benchmark
+    public double paddlePhysics() {
+        // Ball hitting the moving left paddle
+        state.ballX = 38;
+        state.ballY = 290;
+        state.ballVX = -6.0;
+        state.ballVY = 2.0;
+        state.paddle1Y = 260;
+        state.prevPaddle1Y = 252;
+        simulation.applyPaddlePhysics(state, 1, 40, state.paddle1Y);
+        return state.ballVX + state.ballVY;
+    }
+
+    @Benchmark
+    public boolean simulationTick() {
+        return simulation.advance(state);
+    }
+}
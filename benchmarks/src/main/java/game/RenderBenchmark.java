@@ -0,0 +1,88 @@
+package game;
+
+import context.GameContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The animated checkerboard background of a PongGame instance drawn into an offscreen image, and the
+ * Circle Mode paddle collision of CircleSimulation.
+ * Run from the repository root so fonts and themes are found.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class RenderBenchmark {
+
+    private static final int BALL_COUNT = 64;
+
+    private PongGame game;
+    private BufferedImage frame;
+    private final CircleSimulation circleSimulation = new CircleSimulation();
+    private final CircleState circleState = new CircleState();
+    private final List<CircleBall> balls = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        game = new PongGame();
+        game.stopGameLoop(false); // Only the measured calls touch the game, the user's settings are left alone
+        game.setSize(GameContext.BOARD_WIDTH, GameContext.BOARD_HEIGHT);
+        frame = new BufferedImage(GameContext.BOARD_WIDTH, GameContext.BOARD_HEIGHT, BufferedImage.TYPE_INT_RGB);
+
+        // Balls spread over the arena, some of them on the paddle orbit
+        Random random = new Random(42);
+        double centerX = GameContext.BOARD_WIDTH / 2.0;
+        double centerY = GameContext.BOARD_HEIGHT / 2.0;
+        circleState.boardWidth = GameContext.BOARD_WIDTH;
+        circleState.boardHeight = GameContext.BOARD_HEIGHT;
+        circleState.centerX = centerX;
+        circleState.centerY = centerY;
+        for (int i = 0; i < BALL_COUNT; i++) {
+            double angle = random.nextDouble() * Math.PI * 2;
+            double distance = 60 + random.nextDouble() * 200;
+            double x = centerX + Math.cos(angle) * distance;
+            double y = centerY + Math.sin(angle) * distance;
+            balls.add(new CircleBall(x, y, -Math.cos(angle) * 4, -Math.sin(angle) * 4));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        // Stop the Swing timers too, or the EDT keeps the forked VM alive
+        game.dispose();
+        game = null;
+    }
+
+    @Benchmark
+    public BufferedImage animatedCheckerboard() {
+        Graphics2D g = frame.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            game.drawAnimatedCheckerboard(g);
+        } finally {
+            g.dispose();
+        }
+        return frame;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int circlePaddleCollision() {
+        int hits = 0;
+        for (int i = 0; i < balls.size(); i++) {
+            if (circleSimulation.checkPaddleCollision(circleState, balls.get(i))) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
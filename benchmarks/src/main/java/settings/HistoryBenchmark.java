@@ -0,0 +1,54 @@
+package settings;
+
+import context.HistoryContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading a large game history file (entries in the current 13-field format)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class HistoryBenchmark {
+
+    @Param({"1000", "100000"})
+    public int entries;
+
+    private final HistorySettings historySettings = new HistorySettings();
+    private File historyFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        historyFile = File.createTempFile("pongping-history", ".txt");
+        historyFile.deleteOnExit();
+        try (PrintWriter out = new PrintWriter(historyFile, "UTF-8")) {
+            out.println("# PongPing game history");
+            for (int i = 0; i < entries; i++) {
+                boolean playerWon = i % 3 != 0;
+                out.println("12/05/2025|18:" + (10 + i % 50) + ":00|" + (i % 2 == 0 ? "SINGLE_PLAYER" : "TWO_PLAYERS") + "|"
+                        + (playerWon ? 10 : i % 10) + "|" + (playerWon ? i % 10 : 10) + "|" + (playerWon ? "PLAYER" : "COMPUTER") + "|"
+                        + (20 + i % 80) + "|0" + (i % 10) + ":3" + (i % 6) + "|DIFFICILE|" + (i % 25) + "|"
+                        + (playerWon ? "GOLD" : "BRONZE") + "|" + (i % 25) + "|" + (i % 17));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        historyFile.delete();
+    }
+
+    @Benchmark
+    public int loadGameHistory() {
+        historySettings.loadGameHistory(historyFile.getPath());
+        return HistoryContext.gameHistory.size();
+    }
+}
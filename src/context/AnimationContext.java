@@ -1,13 +1,11 @@
 package context;
 
 import game.GameState;
-import game.Particle;
+import game.ParticleSystem;
 import game.PongGame;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import static context.GameContext.BOARD_HEIGHT;
 
@@ -25,9 +23,12 @@ public class AnimationContext {
     // Animation variables for difficulty effects
     public static double difficultyAnimationTime = 0.0;
 
-    // Visual effects (thread-safe list to avoid ConcurrentModificationException)
-    public static CopyOnWriteArrayList<Particle> particles = new CopyOnWriteArrayList<>();
+    // Visual effects (owned by the GameLoop thread, the EDT draws them from PongGame's render snapshot)
+    public static final int MAX_PARTICLES = 4096; // Particle budget (hit effects, fire ball, explosions, menu background)
+    public static ParticleSystem particles = new ParticleSystem(MAX_PARTICLES);
     public static Color ballTrail = new Color(255, 255, 255, 100);
+    public static final int BALL_TRAIL_LENGTH = 12; // Samples kept for the ball trail (classic ball)
+    public static final int CIRCLE_BALL_TRAIL_LENGTH = 8; // Samples kept for each Circle Mode ball
 
     // Menu animation variables
     public static double menuPaddle1Y = 0;
@@ -1,11 +1,12 @@
 package context;
 
+import game.AssetImages;
 import game.PongGame;
+import game.ThumbnailCache;
 import settings.HistorySettings;
 import settings.LanguageSettings;
 import settings.MusicSettings;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.*;
@@ -38,6 +39,12 @@ public class ContextLoader {
             // Desktop mode: Load everything immediately
             loadBackgrounds(); // Load background images from temi/GameBack
             loadPaddleThemes(); // Load paddle themes from temi/Padle
+            AssetImages.report(); // Decode, convert and memory totals of the themes
+
+            // Thumbnails for the selection grids, built in the background
+            ThumbnailCache.prepare(backgroundImages);
+            ThumbnailCache.prepare(bluePaddleThemeImages);
+            ThumbnailCache.prepare(redPaddleThemeImages);
         }
 
         musicSettings.loadMusic();
@@ -94,7 +101,7 @@ public class ContextLoader {
                     try {
                         InputStream imageStream = ContextLoader.class.getClassLoader().getResourceAsStream("temi/GameBack/" + filename);
                         if (imageStream != null) {
-                            BufferedImage img = ImageIO.read(imageStream);
+                            BufferedImage img = AssetImages.read(imageStream, filename);
                             imageStream.close();
                             if (img != null) {
                                 backgroundImages.set(index, img);
@@ -128,7 +135,7 @@ public class ContextLoader {
                     try {
                         InputStream imageStream = ContextLoader.class.getClassLoader().getResourceAsStream(jarPath + "/" + filename);
                         if (imageStream != null) {
-                            BufferedImage img = ImageIO.read(imageStream);
+                            BufferedImage img = AssetImages.read(imageStream, filename);
                             imageStream.close();
                             if (img != null) {
                                 themeImages.set(index, img);
@@ -256,7 +263,7 @@ public class ContextLoader {
 
                         for (File file : files) {
                             try {
-                                BufferedImage img = ImageIO.read(file);
+                                BufferedImage img = AssetImages.read(file);
                                 if (img != null) {
                                     backgroundImages.add(img);
                                     // Remove file extension for display name
@@ -284,7 +291,7 @@ public class ContextLoader {
                         try {
                             InputStream imageStream = ContextLoader.class.getClassLoader().getResourceAsStream("temi/GameBack/" + filename);
                             if (imageStream != null) {
-                                BufferedImage img = ImageIO.read(imageStream);
+                                BufferedImage img = AssetImages.read(imageStream, filename);
                                 imageStream.close();
 
                                 if (img != null) {
@@ -337,7 +344,7 @@ public class ContextLoader {
                     try {
                         InputStream imageStream = ContextLoader.class.getClassLoader().getResourceAsStream("temi/GameBack/" + filename);
                         if (imageStream != null) {
-                            BufferedImage img = ImageIO.read(imageStream);
+                            BufferedImage img = AssetImages.read(imageStream, filename);
                             imageStream.close();
 
                             if (img != null) {
@@ -423,7 +430,7 @@ public class ContextLoader {
                     try {
                         InputStream imageStream = ContextLoader.class.getClassLoader().getResourceAsStream(jarPath + "/" + filename);
                         if (imageStream != null) {
-                            BufferedImage img = ImageIO.read(imageStream);
+                            BufferedImage img = AssetImages.read(imageStream, filename);
                             imageStream.close();
 
                             if (img != null) {
@@ -566,7 +573,7 @@ public class ContextLoader {
 
                     for (File file : files) {
                         try {
-                            BufferedImage img = ImageIO.read(file);
+                            BufferedImage img = AssetImages.read(file);
                             if (img != null) {
                                 themeImages.add(img);
                                 // Clean up the display name
@@ -661,7 +668,7 @@ public class ContextLoader {
                         String resourcePath = "temi/Padle/" + (colorName.equals("Blue") ? "Blu" : "Rosso") + "/" + filename;
                         InputStream imageStream = ContextLoader.class.getClassLoader().getResourceAsStream(resourcePath);
                         if (imageStream != null) {
-                            BufferedImage img = ImageIO.read(imageStream);
+                            BufferedImage img = AssetImages.read(imageStream, filename);
                             imageStream.close();
 
                             if (img != null) {
@@ -0,0 +1,145 @@
+package context;
+
+/**
+ * Runtime tuning for the game loop and the renderer.
+ * Values come from system properties so they can be changed without a rebuild,
+ * e.g. java -Dpongping.renderfps=144 -jar PongGame.jar
+ */
+public class PerformanceContext {
+
+    private static final String TICK_RATE_PROPERTY = "pongping.tickrate";
+    private static final String RENDER_RATE_PROPERTY = "pongping.renderfps";
+    private static final String INTERPOLATION_PROPERTY = "pongping.interpolate";
+    private static final String ACTIVE_RENDERING_PROPERTY = "pongping.activerender";
+    private static final String SEED_PROPERTY = "pongping.seed";
+    private static final String RECORD_PROPERTY = "pongping.record";
+    private static final String QUALITY_PROPERTY = "pongping.quality";
+    private static final String INTERNAL_RESOLUTION_PROPERTY = "pongping.internalres";
+    private static final String UPSCALE_PROPERTY = "pongping.upscale";
+
+    // Frame pacing.
+    // The physics moves a fixed amount per tick, so the tick rate stays at LOGIC_FPS (other values would change
+    // the game speed and are ignored); only the render rate is free to change.
+    public static final int TICK_RATE = readTickRate(TICK_RATE_PROPERTY); // Logic ticks per second
+    public static final int RENDER_RATE = readRate(RENDER_RATE_PROPERTY, Math.max(TICK_RATE, detectDisplayRefreshRate())); // Repaint requests per second
+
+    // Blend positions between logic ticks (on by default when frames are drawn faster than ticks)
+    public static final boolean INTERPOLATION_ENABLED = readFlag(INTERPOLATION_PROPERTY, RENDER_RATE > TICK_RATE);
+
+    // Draw from a dedicated render thread into a Canvas BufferStrategy instead of paintComponent on the EDT
+    public static final boolean ACTIVE_RENDERING = readFlag(ACTIVE_RENDERING_PROPERTY, false);
+
+    // Render quality: auto (chosen from the measured frame time) or a fixed tier (high, medium, low, minimal)
+    public static final String QUALITY = readChoice(QUALITY_PROPERTY, "auto", "auto", "high", "medium", "low", "minimal");
+
+    // Fixed render resolution as a multiple of the base size (1 = 800x600, 2 = 1600x1200), 0 = window size.
+    // Bigger windows get the frame stretched from the buffer: nearest (cheap on every pipeline) or bilinear
+    // (smoother, free on accelerated pipelines but slow in software)
+    public static final int INTERNAL_RESOLUTION_SCALE = readRange(INTERNAL_RESOLUTION_PROPERTY, 0, 0, 8);
+    public static final String UPSCALE = readChoice(UPSCALE_PROPERTY, "nearest", "nearest", "bilinear");
+
+    // Directory where finished classic matches are saved as input recordings (null = no recording)
+    public static final String RECORD_DIRECTORY = System.getProperty(RECORD_PROPERTY);
+
+    // Classic matches on a seeded RNG and a tick clock, so the same inputs give the same match (needed for recording)
+    public static final boolean DETERMINISTIC_SIMULATION = System.getProperty(SEED_PROPERTY) != null || RECORD_DIRECTORY != null;
+    public static final long SIMULATION_SEED = readSeed(SEED_PROPERTY);
+
+    /**
+     * Refresh rate of the primary display, or 0 when it cannot be determined (headless, unknown mode)
+     */
+    private static int detectDisplayRefreshRate() {
+        try {
+            if (java.awt.GraphicsEnvironment.isHeadless()) {
+                return 0;
+            }
+            int refreshRate = java.awt.GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDisplayMode().getRefreshRate();
+            return refreshRate == java.awt.DisplayMode.REFRESH_RATE_UNKNOWN ? 0 : refreshRate;
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    private static long readSeed(String property) {
+        String value = System.getProperty(property);
+        if (value != null) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                System.out.println("[Performance] Invalid value for " + property + ": " + value);
+            }
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Read one of the allowed values (case insensitive), falling back to the default for anything else
+     */
+    private static String readChoice(String property, String defaultValue, String... allowed) {
+        String value = System.getProperty(property);
+        if (value == null) {
+            return defaultValue;
+        }
+        String normalized = value.trim().toLowerCase(java.util.Locale.ROOT);
+        for (String choice : allowed) {
+            if (choice.equals(normalized)) {
+                return choice;
+            }
+        }
+        System.out.println("[Performance] Invalid value for " + property + ": " + value);
+        return defaultValue;
+    }
+
+    /**
+     * Read an integer clamped to min..max, falling back to the default when missing or not a number
+     */
+    private static int readRange(String property, int defaultValue, int min, int max) {
+        String value = System.getProperty(property);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(min, Math.min(max, Integer.parseInt(value.trim())));
+        } catch (NumberFormatException e) {
+            System.out.println("[Performance] Invalid value for " + property + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    private static boolean readFlag(String property, boolean defaultValue) {
+        String value = System.getProperty(property);
+        return value == null ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    /**
+     * Read the logic tick rate: only LOGIC_FPS is accepted, anything else is reported and ignored
+     */
+    private static int readTickRate(String property) {
+        int rate = readRate(property, GameContext.LOGIC_FPS);
+        if (rate != GameContext.LOGIC_FPS) {
+            System.out.println("[Performance] Ignoring " + property + "=" + rate + ": the physics is tuned per tick, "
+                    + "the tick rate stays at " + GameContext.LOGIC_FPS + " (use pongping.renderfps for smoother frames)");
+            return GameContext.LOGIC_FPS;
+        }
+        return rate;
+    }
+
+    /**
+     * Read a rate (in Hz) from a system property, falling back to the default
+     * when the property is missing or not a valid number
+     */
+    private static int readRate(String property, int defaultValue) {
+        String value = System.getProperty(property);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int rate = Integer.parseInt(value.trim());
+            return Math.max(1, Math.min(1000, rate));
+        } catch (NumberFormatException e) {
+            System.out.println("[Performance] Invalid value for " + property + ": " + value);
+            return defaultValue;
+        }
+    }
+}
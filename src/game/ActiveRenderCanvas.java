@@ -0,0 +1,188 @@
+package game;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongPredicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Canvas drawn by its own "Render" thread through a BufferStrategy (active rendering).
+ * The thread paces itself at the render rate, draws a whole frame into the back buffer
+ * and flips it, so painting no longer goes through the EDT: the EDT is left with
+ * keyboard and mouse events only.
+ * Nothing is shared with the EDT through locks, so input and timers never wait for a frame: the painter
+ * takes moving state from the game loop's RenderSnapshot and selection, hover and scroll from the EDT's
+ * UiSnapshot; flags and animation progress are read as they are, as paintComponent reads what the game
+ * loop writes.
+ * A frame that throws is logged and skipped, the thread goes on with the next one.
+ * While the frame gate holds frames back (idle game), a damaged canvas (exposed, resized, shown, or
+ * its buffers lost) still gets one frame, so the last picture is put back on screen.
+ */
+public class ActiveRenderCanvas extends Canvas {
+
+    private final long frameNanos;
+    private final ToLongFunction<Graphics2D> painter;
+    private final RenderMetrics metrics;
+
+    private volatile LongPredicate frameGate = now -> true; // Skips frames while the game is idle
+    private volatile boolean damaged = true; // Draw the next frame even if the gate is closed
+    private volatile boolean running = false;
+    private long failedFrames = 0; // Render thread only
+    private Thread renderThread;
+
+    /**
+     * @param painter draws one full frame and returns the tick deadline of the state it drew (0 if unknown)
+     */
+    public ActiveRenderCanvas(int renderRate, ToLongFunction<Graphics2D> painter, RenderMetrics metrics) {
+        this.frameNanos = 1_000_000_000L / renderRate;
+        this.painter = painter;
+        this.metrics = metrics;
+        setBackground(Color.BLACK);
+        addComponentListener(new java.awt.event.ComponentAdapter() {
+            @Override
+            public void componentResized(java.awt.event.ComponentEvent e) {
+                damaged = true;
+            }
+
+            @Override
+            public void componentShown(java.awt.event.ComponentEvent e) {
+                damaged = true;
+            }
+        });
+    }
+
+    // Exposed by the window system: nothing is drawn on the EDT, the render thread redraws the whole frame
+    @Override
+    public void paint(Graphics g) {
+        damaged = true;
+    }
+
+    // Same, without the background clear of Canvas.update()
+    @Override
+    public void update(Graphics g) {
+        damaged = true;
+    }
+
+    /**
+     * Asked before every frame with the current time; false skips the frame (the last one stays on screen)
+     */
+    public void setFrameGate(LongPredicate frameGate) {
+        this.frameGate = frameGate;
+    }
+
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        renderThread = new Thread(this::renderLoop);
+        renderThread.setName("Render");
+        renderThread.setDaemon(true);
+        renderThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (renderThread != null) {
+            try {
+                renderThread.join(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void renderLoop() {
+        long nextFrame = System.nanoTime();
+        while (running) {
+            if (damaged || contentsLost() || frameGate.test(System.nanoTime())) {
+                damaged = false; // Cleared first, so damage reported while drawing asks for another frame
+                try {
+                    if (!renderFrame()) {
+                        damaged = true; // No buffers yet: keep asking
+                    }
+                } catch (RuntimeException e) {
+                    // Keep the render thread alive, the next frame may be fine (e.g. state changed mid-frame)
+                    damaged = true;
+                    logFailedFrame(e);
+                }
+            }
+
+            nextFrame += frameNanos;
+            long now = System.nanoTime();
+            if (nextFrame <= now) {
+                // Frame took longer than its slot: start the next one right away, don't try to catch up
+                nextFrame = now;
+                Thread.yield();
+                continue;
+            }
+            long remaining;
+            while ((remaining = nextFrame - System.nanoTime()) > 0 && running) {
+                LockSupport.parkNanos(remaining);
+            }
+        }
+    }
+
+    // false when nothing could be drawn yet
+    private boolean renderFrame() {
+        if (!isDisplayable() || getWidth() <= 0 || getHeight() <= 0) {
+            return false;
+        }
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null) {
+            createStrategy();
+            return false;
+        }
+
+        long startTime = System.nanoTime();
+        long stateTime = 0;
+        do {
+            do {
+                Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    stateTime = painter.applyAsLong(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync(); // Flush the pipeline so the frame is on screen now (matters on Linux)
+        metrics.recordFrame(startTime, System.nanoTime(), stateTime);
+        return true;
+    }
+
+    // Full stack trace the first time, then one line per second of failing frames
+    private void logFailedFrame(RuntimeException e) {
+        if (failedFrames == 0) {
+            System.out.println("[Render] Frame failed: " + e);
+            e.printStackTrace();
+        } else if (failedFrames % (1_000_000_000L / frameNanos) == 0) {
+            System.out.println("[Render] Frame failed (" + failedFrames + " so far): " + e);
+        }
+        failedFrames++;
+    }
+
+    private boolean contentsLost() {
+        BufferStrategy strategy = getBufferStrategy();
+        return strategy != null && strategy.contentsLost();
+    }
+
+    private void createStrategy() {
+        try {
+            // Page flipping when the pipeline supports it
+            createBufferStrategy(2, new BufferCapabilities(new ImageCapabilities(true), new ImageCapabilities(true),
+                    BufferCapabilities.FlipContents.UNDEFINED));
+            System.out.println("[Render] Active rendering with page flipping");
+        } catch (AWTException e) {
+            // Falls back to blitting from an accelerated back buffer
+            createBufferStrategy(2);
+            System.out.println("[Render] Active rendering with blit buffer strategy");
+        }
+    }
+
+    public RenderMetrics getMetrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,149 @@
+package game;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decodes the theme images and converts them to the screen's compatible format.
+ * ImageIO returns whatever layout the file has (indexed colors, 3-byte BGR, custom types); Java2D cannot
+ * cache those as accelerated surfaces and converts their pixels in software on every blit. A compatible
+ * BufferedImage is a managed image: Java2D keeps a copy in video memory on its own, so no VolatileImage
+ * handling is needed here.
+ * Each load logs its decode and convert time and its memory before and after; report() prints the totals.
+ */
+public final class AssetImages {
+
+    private static int loadedCount = 0;
+    private static int convertedCount = 0;
+    private static long decodeNanos = 0;
+    private static long convertNanos = 0;
+    private static long sourceBytes = 0;
+    private static long convertedBytes = 0;
+
+    private AssetImages() {
+    }
+
+    /**
+     * Same as ImageIO.read(file), returning the compatible copy (null if the file is not an image)
+     */
+    public static BufferedImage read(File file) throws IOException {
+        long start = System.nanoTime();
+        BufferedImage image = ImageIO.read(file);
+        return prepare(image, file.getName(), System.nanoTime() - start);
+    }
+
+    /**
+     * Same as ImageIO.read(stream), returning the compatible copy (the caller still closes the stream)
+     */
+    public static BufferedImage read(InputStream stream, String name) throws IOException {
+        long start = System.nanoTime();
+        BufferedImage image = ImageIO.read(stream);
+        return prepare(image, name, System.nanoTime() - start);
+    }
+
+    private static synchronized BufferedImage prepare(BufferedImage image, String name, long decode) {
+        if (image == null) {
+            return null;
+        }
+        long convertStart = System.nanoTime();
+        BufferedImage compatible = toCompatible(image);
+        long convert = System.nanoTime() - convertStart;
+
+        long before = imageBytes(image);
+        long after = imageBytes(compatible);
+        loadedCount++;
+        decodeNanos += decode;
+        convertNanos += convert;
+        sourceBytes += before;
+        convertedBytes += after;
+        if (compatible != image) {
+            convertedCount++;
+        }
+        System.out.println("[Performance] Asset " + name + ": " + image.getWidth() + "x" + image.getHeight()
+                + " " + describeType(image) + (compatible != image ? " -> " + describeType(compatible) : " (kept)")
+                + ", decode " + formatMillis(decode) + ", convert " + formatMillis(convert)
+                + ", " + (after / 1024) + " KB");
+        return compatible;
+    }
+
+    /**
+     * Copy of the image in the format the screen blits fastest, or the image itself if it already has it
+     */
+    private static BufferedImage toCompatible(BufferedImage image) {
+        int transparency = image.getTransparency();
+        BufferedImage target;
+        GraphicsConfiguration gc = defaultConfiguration();
+        if (gc != null) {
+            if (image.getColorModel().equals(gc.getColorModel(transparency))
+                    && image.getType() != BufferedImage.TYPE_CUSTOM) {
+                return image;
+            }
+            target = gc.createCompatibleImage(image.getWidth(), image.getHeight(), transparency);
+        } else {
+            // Headless: the same layouts the software loops handle directly
+            int type = transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+            if (image.getType() == type) {
+                return image;
+            }
+            target = new BufferedImage(image.getWidth(), image.getHeight(), type);
+        }
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(image, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static GraphicsConfiguration defaultConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return null;
+        }
+        try {
+            return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        } catch (HeadlessException e) {
+            return null;
+        }
+    }
+
+    private static long imageBytes(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+
+    private static String describeType(BufferedImage image) {
+        switch (image.getType()) {
+            case BufferedImage.TYPE_INT_RGB: return "INT_RGB";
+            case BufferedImage.TYPE_INT_ARGB: return "INT_ARGB";
+            case BufferedImage.TYPE_INT_ARGB_PRE: return "INT_ARGB_PRE";
+            case BufferedImage.TYPE_INT_BGR: return "INT_BGR";
+            case BufferedImage.TYPE_3BYTE_BGR: return "3BYTE_BGR";
+            case BufferedImage.TYPE_4BYTE_ABGR: return "4BYTE_ABGR";
+            case BufferedImage.TYPE_4BYTE_ABGR_PRE: return "4BYTE_ABGR_PRE";
+            case BufferedImage.TYPE_BYTE_INDEXED: return "BYTE_INDEXED";
+            case BufferedImage.TYPE_BYTE_GRAY: return "BYTE_GRAY";
+            case BufferedImage.TYPE_CUSTOM: return "CUSTOM";
+            default: return "type " + image.getType();
+        }
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.1f ms", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Totals of the images loaded so far
+     */
+    public static synchronized void report() {
+        System.out.println("[Performance] Assets: " + loadedCount + " loaded, " + convertedCount + " converted"
+                + ", decode " + formatMillis(decodeNanos) + ", convert " + formatMillis(convertNanos)
+                + ", memory " + (sourceBytes / 1024) + " KB -> " + (convertedBytes / 1024) + " KB");
+    }
+}
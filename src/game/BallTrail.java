@@ -0,0 +1,115 @@
+package game;
+
+import java.awt.*;
+
+/**
+ * Last positions of a ball, kept in a fixed-size ring buffer of primitive coordinates:
+ * adding a sample overwrites the oldest one, nothing is allocated or shifted per tick.
+ * The alpha and size of each trail dot only depend on its place in the trail, so both ramps are
+ * computed once and reused until the trail length, the ball size or the color change.
+ */
+public class BallTrail {
+
+    private final double[] x;
+    private final double[] y;
+    private int head; // Next slot to write
+    private int size;
+
+    // Ramps for the current length / ball size / color
+    private final Color[] rampColor;
+    private final int[] rampDiameter;
+    private int rampLength = -1;
+    private int rampBallSize = -1;
+    private int rampRgb;
+
+    public BallTrail(int capacity) {
+        x = new double[capacity];
+        y = new double[capacity];
+        rampColor = new Color[capacity];
+        rampDiameter = new int[capacity];
+    }
+
+    public int capacity() {
+        return x.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+        head = 0;
+    }
+
+    // Add the newest sample (ball center), dropping the oldest when the trail is full
+    public void add(double px, double py) {
+        x[head] = px;
+        y[head] = py;
+        head = head + 1 == x.length ? 0 : head + 1;
+        if (size < x.length) {
+            size++;
+        }
+    }
+
+    /**
+     * Make this trail an exact copy of source (used for the render snapshot)
+     */
+    public void copyFrom(BallTrail source) {
+        if (source.x.length != x.length) {
+            throw new IllegalArgumentException("Trail capacity mismatch: " + source.x.length + " != " + x.length);
+        }
+        System.arraycopy(source.x, 0, x, 0, x.length);
+        System.arraycopy(source.y, 0, y, 0, y.length);
+        head = source.head;
+        size = source.size;
+    }
+
+    /**
+     * Draw the trail as dots that grow and get more opaque towards the newest sample
+     * (the oldest sample is not drawn).
+     * @param ballSize diameter of the ball the trail follows
+     * @param rgb trail color, the alpha comes from the ramp (up to 60%)
+     */
+    public void draw(Graphics2D g, int ballSize, int rgb) {
+        draw(g, ballSize, rgb, x.length);
+    }
+
+    /**
+     * Same, using only the newest maxSamples samples (a shorter trail for lower quality tiers)
+     */
+    public void draw(Graphics2D g, int ballSize, int rgb, int maxSamples) {
+        int length = Math.min(size, maxSamples);
+        if (length < 2) {
+            return;
+        }
+        rgb &= 0x00FFFFFF;
+        if (length != rampLength || ballSize != rampBallSize || rgb != rampRgb) {
+            buildRamps(length, ballSize, rgb);
+        }
+        int capacity = x.length;
+        int index = head - length + 1;
+        if (index < 0) {
+            index += capacity;
+        }
+        for (int i = 1; i < length; i++) {
+            int diameter = rampDiameter[i];
+            g.setColor(rampColor[i]);
+            g.fillOval((int) x[index] - diameter / 2, (int) y[index] - diameter / 2, diameter, diameter);
+            index = index + 1 == capacity ? 0 : index + 1;
+        }
+    }
+
+    private void buildRamps(int length, int ballSize, int rgb) {
+        for (int i = 1; i < length; i++) {
+            // Newer = bigger and more opaque
+            float fraction = (float) i / length;
+            float alpha = fraction * 0.6f;
+            rampColor[i] = ColorCache.get((((int) (alpha * 255 + 0.5)) << 24) | rgb);
+            rampDiameter[i] = (int) (ballSize * 0.7 * fraction);
+        }
+        rampLength = length;
+        rampBallSize = ballSize;
+        rampRgb = rgb;
+    }
+}
@@ -0,0 +1,167 @@
+package game;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * Full-screen layer that changes rarely (background image, overlays, static lines):
+ * painted once into an offscreen image and then blitted with a single drawImage per frame.
+ * The image is repainted only when the size, the content key or the antialiasing hint of the target changes,
+ * when invalidate() is called, or when the video memory copy is lost (VolatileImage).
+ * The content is painted with the target's antialiasing, so a layer follows the quality tier of the frame.
+ * Drawn through a scale (InternalResolution buffer), the image is built at the scaled size and blitted
+ * with the translation only, so it is not shrunk on every frame.
+ */
+public class CachedLayer {
+
+    /**
+     * Paints the layer content into the cache image (called only when the cache is rebuilt)
+     */
+    public interface Painter {
+        void paint(Graphics2D g, int width, int height);
+    }
+
+    private final Painter painter;
+    private final boolean opaque;
+
+    private VolatileImage volatileImage;
+    private BufferedImage bufferedImage;
+    private int width = -1;
+    private int height = -1;
+    private double scaleX = 1.0;
+    private double scaleY = 1.0;
+    private int imageWidth = -1;  // width * scaleX
+    private int imageHeight = -1;
+    private final AffineTransform blitTransform = new AffineTransform();
+    private Object contentKey;
+    private Object antialiasing;
+    private volatile boolean dirty = true;
+    private long rebuildCount = 0;
+
+    /**
+     * @param opaque true when the painter covers every pixel (cheaper opaque image, no blending on blit)
+     */
+    public CachedLayer(boolean opaque, Painter painter) {
+        this.opaque = opaque;
+        this.painter = painter;
+    }
+
+    // Force a repaint on the next draw (e.g. scale changed)
+    public void invalidate() {
+        dirty = true;
+    }
+
+    public long getRebuildCount() {
+        return rebuildCount;
+    }
+
+    /**
+     * Blit the layer, repainting it first if needed.
+     * @param contentKey identity of what the layer shows (e.g. the theme image); a different object repaints the cache
+     */
+    public void draw(Graphics2D g, GraphicsConfiguration gc, int width, int height, Object contentKey) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        AffineTransform transform = g.getTransform();
+        boolean scaled = InternalResolution.isScaled(transform);
+        double scaleX = scaled ? transform.getScaleX() : 1.0;
+        double scaleY = scaled ? transform.getScaleY() : 1.0;
+        Object antialiasing = g.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+        boolean stale = dirty || width != this.width || height != this.height || contentKey != this.contentKey
+                || antialiasing != this.antialiasing || scaleX != this.scaleX || scaleY != this.scaleY;
+        this.width = width;
+        this.height = height;
+        this.scaleX = scaleX;
+        this.scaleY = scaleY;
+        this.imageWidth = scaled ? Math.max(1, (int) Math.round(width * scaleX)) : width;
+        this.imageHeight = scaled ? Math.max(1, (int) Math.round(height * scaleY)) : height;
+        this.contentKey = contentKey;
+        this.antialiasing = antialiasing;
+        dirty = false;
+
+        if (scaled) {
+            g.setTransform(InternalResolution.deviceTranslation(transform, blitTransform));
+        }
+        try {
+            if (gc == null || GraphicsEnvironment.isHeadless()) {
+                drawBuffered(g, gc, stale);
+            } else {
+                drawVolatile(g, gc, stale);
+            }
+        } finally {
+            if (scaled) {
+                g.setTransform(transform);
+            }
+        }
+    }
+
+    private void drawVolatile(Graphics2D g, GraphicsConfiguration gc, boolean stale) {
+        bufferedImage = null;
+        do {
+            if (volatileImage == null || volatileImage.getWidth() != imageWidth || volatileImage.getHeight() != imageHeight) {
+                createVolatileImage(gc);
+                stale = true;
+            }
+            int status = volatileImage.validate(gc);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                // Window moved to another screen
+                createVolatileImage(gc);
+                stale = true;
+            } else if (status == VolatileImage.IMAGE_RESTORED) {
+                stale = true;
+            }
+            if (stale) {
+                repaint(volatileImage.createGraphics());
+                stale = false;
+            }
+            g.drawImage(volatileImage, 0, 0, null);
+        } while (volatileImage.contentsLost());
+    }
+
+    private void createVolatileImage(GraphicsConfiguration gc) {
+        if (volatileImage != null) {
+            volatileImage.flush();
+        }
+        volatileImage = gc.createCompatibleVolatileImage(imageWidth, imageHeight,
+                opaque ? Transparency.OPAQUE : Transparency.TRANSLUCENT);
+    }
+
+    private void drawBuffered(Graphics2D g, GraphicsConfiguration gc, boolean stale) {
+        volatileImage = null;
+        if (bufferedImage == null || bufferedImage.getWidth() != imageWidth || bufferedImage.getHeight() != imageHeight) {
+            int transparency = opaque ? Transparency.OPAQUE : Transparency.TRANSLUCENT;
+            bufferedImage = gc != null
+                ? gc.createCompatibleImage(imageWidth, imageHeight, transparency)
+                : new BufferedImage(imageWidth, imageHeight, opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+            stale = true;
+        }
+        if (stale) {
+            repaint(bufferedImage.createGraphics());
+        }
+        g.drawImage(bufferedImage, 0, 0, null);
+    }
+
+    private void repaint(Graphics2D g) {
+        try {
+            if (!opaque) {
+                // Clear what the previous content left behind
+                g.setComposite(AlphaComposite.Clear);
+                g.fillRect(0, 0, imageWidth, imageHeight);
+                g.setComposite(AlphaComposite.SrcOver);
+            }
+            if (scaleX != 1.0 || scaleY != 1.0) {
+                g.scale(scaleX, scaleY); // The painter keeps drawing in window coordinates
+            }
+            if (antialiasing != null) {
+                g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialiasing);
+            }
+            painter.paint(g, width, height);
+        } finally {
+            g.dispose();
+        }
+        rebuildCount++;
+    }
+}
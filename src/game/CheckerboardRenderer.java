@@ -0,0 +1,278 @@
+package game;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+/**
+ * Animated checkerboard of the settings screen: theme background, red tiles lit by a radial light that
+ * follows the selected element, atmospheric glow around the light and gray dissolve at the top.
+ * Everything but the scroll is precomputed into two opaque screen-sized images:
+ * - dark: the background with the overlays applied (what shows through the transparent tiles)
+ * - lit: the red tile color with its lighting falloff and the same overlays
+ * A frame is one copy of the dark image plus one sub-image copy of the lit image per red tile,
+ * so scrolling the tiles never recomputes lighting or gradients.
+ * Both are compatible images written only through their rasters, row by row, so Java2D keeps them
+ * managed and can cache them on accelerated pipelines; the pixels are composed in scratch rows.
+ * Both images are rebuilt only when the window, the theme, the light position or the glow change.
+ * Drawn through a scale (InternalResolution buffer), the images are built at the scaled size and the
+ * tiles are copied in device pixels, so nothing is resampled per frame.
+ */
+public class CheckerboardRenderer {
+
+    // Lighting and glow are evaluated once per block: they change less than one color step inside a block
+    private static final int LIGHT_BLOCK = 4;
+
+    private final CachedLayer.Painter backgroundPainter;
+
+    private BufferedImage background; // Painter target, its pixels are read directly (never drawn)
+    private Object backgroundKey;
+    private boolean backgroundDirty = true;
+
+    private BufferedImage dark;
+    private BufferedImage lit;
+    private GraphicsConfiguration imagesConfiguration;
+    private int[] darkRow = new int[0];
+    private int[] litRow = new int[0];
+    private int lightX = Integer.MIN_VALUE;
+    private int lightY = Integer.MIN_VALUE;
+    private double lightGlow = -1;
+    private float lightRadius = -1;
+    private int lightDissolveHeight = -1;
+    private long rebuildCount = 0;
+
+    private double scaleX = 1.0;
+    private double scaleY = 1.0;
+    private final AffineTransform blitTransform = new AffineTransform();
+
+    /**
+     * @param backgroundPainter paints the theme background behind the tiles
+     */
+    public CheckerboardRenderer(CachedLayer.Painter backgroundPainter) {
+        this.backgroundPainter = backgroundPainter;
+    }
+
+    // Repaint the background on the next draw (e.g. scale changed)
+    public void invalidate() {
+        backgroundDirty = true;
+    }
+
+    public long getRebuildCount() {
+        return rebuildCount;
+    }
+
+    /**
+     * @param gc configuration the images are made compatible with (null: plain RGB images)
+     * @param backgroundKey identity of the theme image (a different object repaints the background)
+     * @param offset diagonal scroll offset in pixels (0 to tileSize)
+     * @param glowIntensity settings glow (0-1), same meaning as PongGame.glowIntensity
+     * @param glowRadius radius of the atmospheric glow around the light
+     * @param dissolveHeight height of the gray dissolve at the top
+     */
+    public void draw(Graphics2D g, GraphicsConfiguration gc, int width, int height, Object backgroundKey, int tileSize, int offset,
+                     double centerX, double centerY, double glowIntensity, float glowRadius, int dissolveHeight) {
+        if (width <= 0 || height <= 0 || tileSize <= 0) {
+            return;
+        }
+        AffineTransform transform = g.getTransform();
+        boolean scaled = InternalResolution.isScaled(transform);
+        double sx = scaled ? transform.getScaleX() : 1.0;
+        double sy = scaled ? transform.getScaleY() : 1.0;
+        if (sx != scaleX || sy != scaleY) {
+            scaleX = sx;
+            scaleY = sy;
+            backgroundDirty = true;
+        }
+        // Images and tiles in device pixels (the same as window pixels when not scaled)
+        int imageWidth = scaled ? Math.max(1, (int) Math.round(width * sx)) : width;
+        int imageHeight = scaled ? Math.max(1, (int) Math.round(height * sy)) : height;
+        updateImages(gc, width, height, imageWidth, imageHeight, backgroundKey, (int) (centerX * sx), (int) (centerY * sy),
+                glowIntensity, (float) (glowRadius * sx), (int) (dissolveHeight * sy));
+        if (scaled) {
+            g.setTransform(InternalResolution.deviceTranslation(transform, blitTransform));
+        }
+
+        g.drawImage(dark, 0, 0, null);
+
+        double currentGlow = glowIntensity * 0.5; // Scale down for subtlety
+        boolean drawBorders = currentGlow > 0.3;
+        int glowSize = (int) (currentGlow * 3);
+        if (drawBorders) {
+            g.setColor(ColorCache.get(255, 100, 100, (int) (100 * currentGlow)));
+        }
+
+        // Calculate how many tiles we need to cover the screen plus the offset
+        int tilesX = (width / tileSize) + 3;
+        int tilesY = (height / tileSize) + 3;
+        for (int x = -2; x < tilesX; x++) {
+            for (int y = -2; y < tilesY; y++) {
+                // Dark tiles stay as they are in the dark image
+                if ((x + y) % 2 == 0) {
+                    continue;
+                }
+                int posX = x * tileSize - offset;
+                int posY = y * tileSize - offset;
+                int left = device(posX, sx);
+                int top = device(posY, sy);
+                int right = device(posX + tileSize, sx);
+                int bottom = device(posY + tileSize, sy);
+                if (drawBorders) {
+                    int borderLeft = device(posX - glowSize, sx);
+                    int borderTop = device(posY - glowSize, sy);
+                    g.fillRect(borderLeft, borderTop, device(posX + tileSize + glowSize, sx) - borderLeft,
+                            device(posY + tileSize + glowSize, sy) - borderTop);
+                }
+                int x1 = Math.max(0, left);
+                int y1 = Math.max(0, top);
+                int x2 = Math.min(imageWidth, right);
+                int y2 = Math.min(imageHeight, bottom);
+                if (x1 < x2 && y1 < y2) {
+                    g.drawImage(lit, x1, y1, x2, y2, x1, y1, x2, y2, null);
+                }
+            }
+        }
+        if (scaled) {
+            g.setTransform(transform);
+        }
+    }
+
+    // Window coordinate to device pixel (unchanged when not scaled)
+    private static int device(int value, double scale) {
+        return scale == 1.0 ? value : (int) Math.round(value * scale);
+    }
+
+    // width/height: window size the background painter draws; imageWidth/imageHeight: size of the images,
+    // the light parameters are already in image pixels
+    private void updateImages(GraphicsConfiguration gc, int width, int height, int imageWidth, int imageHeight,
+                              Object backgroundKey, int centerX, int centerY, double glowIntensity, float glowRadius,
+                              int dissolveHeight) {
+        boolean resized = background == null || background.getWidth() != imageWidth || background.getHeight() != imageHeight
+                || gc != imagesConfiguration;
+        boolean backgroundChanged = resized || backgroundDirty || backgroundKey != this.backgroundKey;
+        if (backgroundChanged) {
+            if (resized) {
+                background = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_RGB);
+                dark = createImage(gc, imageWidth, imageHeight);
+                lit = createImage(gc, imageWidth, imageHeight);
+                darkRow = new int[imageWidth];
+                litRow = new int[imageWidth];
+                imagesConfiguration = gc;
+            }
+            Graphics2D bg = background.createGraphics();
+            try {
+                bg.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                if (imageWidth != width || imageHeight != height) {
+                    bg.scale((double) imageWidth / width, (double) imageHeight / height);
+                }
+                backgroundPainter.paint(bg, width, height);
+            } finally {
+                bg.dispose();
+            }
+            this.backgroundKey = backgroundKey;
+            backgroundDirty = false;
+        } else if (centerX == lightX && centerY == lightY && glowIntensity == lightGlow
+                && glowRadius == lightRadius && dissolveHeight == lightDissolveHeight) {
+            return;
+        }
+        lightX = centerX;
+        lightY = centerY;
+        lightGlow = glowIntensity;
+        lightRadius = glowRadius;
+        lightDissolveHeight = dissolveHeight;
+        composeLighting(imageWidth, imageHeight);
+        rebuildCount++;
+    }
+
+    private static BufferedImage createImage(GraphicsConfiguration gc, int width, int height) {
+        return gc != null
+            ? gc.createCompatibleImage(width, height, Transparency.OPAQUE)
+            : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * Fill dark and lit in one pass. Per block: tile color from the lighting falloff and the glow color,
+     * per row: the dissolve. Both overlays are SrcOver, so each pixel is dst * keep + add.
+     */
+    private void composeLighting(int width, int height) {
+        int[] source = ((DataBufferInt) background.getRaster().getDataBuffer()).getData();
+        int[] darkPixels = darkRow;
+        int[] litPixels = litRow;
+
+        double maxDistance = Math.sqrt((width / 2.0) * (width / 2.0) + (height / 2.0) * (height / 2.0));
+        double currentGlow = lightGlow * 0.5;
+        boolean atmosphericGlow = lightGlow > 0.2;
+        double centerAlpha = (int) (30 * lightGlow) / 255.0;
+        double midAlpha = (int) (15 * lightGlow) / 255.0;
+
+        for (int y = 0; y < height; y++) {
+            // Gray dissolve: 120 alpha at the top, transparent at dissolveHeight
+            double dissolveAlpha = 0;
+            if (y < lightDissolveHeight) {
+                dissolveAlpha = 120 / 255.0 * (1.0 - (y + 0.5) / lightDissolveHeight);
+            }
+            double dissolveAdd = 100 * dissolveAlpha;
+
+            double dy = (y / LIGHT_BLOCK) * LIGHT_BLOCK + LIGHT_BLOCK / 2.0 - lightY;
+            int row = y * width;
+            for (int bx = 0; bx < width; bx += LIGHT_BLOCK) {
+                double dx = bx + LIGHT_BLOCK / 2.0 - lightX;
+                double distance = Math.sqrt(dx * dx + dy * dy);
+
+                // Same falloff the tiles used to compute one by one
+                double lightingFactor = Math.max(0.3, 1.0 - (distance / maxDistance) * 0.7);
+                lightingFactor = Math.min(1.0, lightingFactor + currentGlow);
+                int tileRed = Math.min(255, (int) (180 * lightingFactor));
+                int tileGreen = Math.min(255, (int) (30 * lightingFactor * currentGlow));
+
+                // Atmospheric glow: (100,0,0) at the center, (50,0,0) at 60%, transparent at the radius
+                double glowAlpha = 0;
+                double glowRed = 0;
+                if (atmosphericGlow && distance < lightRadius) {
+                    double t = distance / lightRadius;
+                    if (t < 0.6) {
+                        double f = t / 0.6;
+                        glowAlpha = centerAlpha + (midAlpha - centerAlpha) * f;
+                        glowRed = 100 + (50 - 100) * f;
+                    } else {
+                        double f = (t - 0.6) / 0.4;
+                        glowAlpha = midAlpha * (1 - f);
+                        glowRed = 50 * (1 - f);
+                    }
+                }
+
+                double keep = (1 - glowAlpha) * (1 - dissolveAlpha);
+                double addRed = glowRed * glowAlpha * (1 - dissolveAlpha) + dissolveAdd;
+                double addGray = dissolveAdd;
+
+                int litRgb = (clamp(tileRed * keep + addRed) << 16) | (clamp(tileGreen * keep + addGray) << 8)
+                        | clamp(addGray);
+
+                int columnEnd = Math.min(width, bx + LIGHT_BLOCK);
+                for (int x = bx; x < columnEnd; x++) {
+                    int rgb = source[row + x];
+                    darkPixels[x] = (clamp(((rgb >> 16) & 0xFF) * keep + addRed) << 16)
+                            | (clamp(((rgb >> 8) & 0xFF) * keep + addGray) << 8)
+                            | clamp((rgb & 0xFF) * keep + addGray);
+                    litPixels[x] = litRgb;
+                }
+            }
+            writeRow(dark, y, darkPixels, width);
+            writeRow(lit, y, litPixels, width);
+        }
+    }
+
+    // Through the raster (never getData()), so the image stays managed
+    private static void writeRow(BufferedImage image, int y, int[] rgbRow, int width) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            image.getRaster().setDataElements(0, y, width, 1, rgbRow);
+        } else {
+            image.setRGB(0, y, width, 1, rgbRow, 0, width);
+        }
+    }
+
+    private static int clamp(double value) {
+        int v = (int) (value + 0.5);
+        return v < 0 ? 0 : (v > 255 ? 255 : v);
+    }
+}
@@ -0,0 +1,29 @@
+package game;
+
+import static context.AnimationContext.CIRCLE_BALL_TRAIL_LENGTH;
+import static context.GameContext.BALL_SIZE;
+
+/**
+ * Circle Mode ball - comes from any edge towards the center
+ */
+class CircleBall {
+    double x, y;
+    double vx, vy;
+    double prevX, prevY; // Position at the previous logic tick (for render interpolation)
+    double radius = BALL_SIZE / 2.0;
+    boolean active = true;
+    boolean isSpiralBall = false; // Palle della spirale fanno meno danno
+    final BallTrail trail = new BallTrail(CIRCLE_BALL_TRAIL_LENGTH);
+
+    CircleBall(double x, double y, double vx, double vy) {
+        this.x = this.prevX = x;
+        this.y = this.prevY = y;
+        this.vx = vx;
+        this.vy = vy;
+    }
+
+    CircleBall(double x, double y, double vx, double vy, boolean isSpiralBall) {
+        this(x, y, vx, vy);
+        this.isSpiralBall = isSpiralBall;
+    }
+}
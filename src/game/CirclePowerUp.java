@@ -0,0 +1,23 @@
+package game;
+
+/**
+ * Circle Mode power-up - moves like a ball, activates when it reaches the center
+ */
+class CirclePowerUp {
+    double x, y;
+    double vx, vy; // Velocity (moves towards center like balls)
+    double prevX, prevY; // Position at the previous logic tick (for render interpolation)
+    int type; // 0=Health, 1=SlowMo, 2=PaddleEnlarge, 3=Shield
+    double radius = 15.0;
+    boolean active = true;
+    long spawnTime;
+
+    CirclePowerUp(double x, double y, double vx, double vy, int type) {
+        this.x = this.prevX = x;
+        this.y = this.prevY = y;
+        this.vx = vx;
+        this.vy = vy;
+        this.type = type;
+        this.spawnTime = System.currentTimeMillis();
+    }
+}
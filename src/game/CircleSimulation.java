@@ -0,0 +1,234 @@
+package game;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Circle Mode motion and collisions without any AWT/Swing dependency, like PongSimulation for the classic
+ * mode. One call to {@link #step(CircleState, Events)} moves every ball and power-up by one tick, bounces
+ * them off the paddle arc and removes the ones that reached the center or left the arena.
+ * What a hit means (score, combo, damage, power-up effects, sounds, particles) stays with the game, which
+ * gets each collision through {@link Events} in the same order as it happens.
+ */
+class CircleSimulation {
+
+    private static final double MAX_BOUNCE_SPEED = 10.0;
+    private static final double BOUNCE_PUSH = 5.0;
+    private static final double OFF_SCREEN_MARGIN = 50;
+
+    /**
+     * Collisions of a tick, reported while the tick runs
+     */
+    interface Events {
+        void ballDeflected(CircleBall ball);
+
+        // The ball was removed from the arena
+        void ballReachedCenter(CircleBall ball);
+
+        void powerUpDeflected(CirclePowerUp powerUp);
+
+        // The power-up was removed from the arena
+        void powerUpReachedCenter(CirclePowerUp powerUp);
+    }
+
+    /**
+     * Move the balls, then the power-ups, by one tick
+     */
+    void step(CircleState s, Events events) {
+        double scaleFactor = s.scaleFactor;
+
+        Iterator<CircleBall> ballIterator = s.balls.iterator();
+        while (ballIterator.hasNext()) {
+            CircleBall ball = ballIterator.next();
+
+            // Le palle della spirale non vengono rallentate dallo slow-mo
+            double ballSpeedFactor = ball.isSpiralBall ? 1.0 : s.slowMoFactor;
+            ball.prevX = ball.x;
+            ball.prevY = ball.y;
+            ball.x += ball.vx * ballSpeedFactor * scaleFactor;
+            ball.y += ball.vy * ballSpeedFactor * scaleFactor;
+            if (s.trailsEnabled) {
+                ball.trail.add(ball.x, ball.y);
+            }
+
+            if (checkPaddleCollision(s, ball)) {
+                applyPaddlePhysics(s, ball);
+                events.ballDeflected(ball);
+            }
+
+            if (reachedCenter(s, ball.x, ball.y, ball.radius)) {
+                ballIterator.remove();
+                events.ballReachedCenter(ball);
+                continue;
+            }
+
+            if (isOffScreen(s, ball.x, ball.y)) {
+                ballIterator.remove();
+            }
+        }
+
+        Iterator<CirclePowerUp> powerUpIterator = s.powerUps.iterator();
+        while (powerUpIterator.hasNext()) {
+            CirclePowerUp powerUp = powerUpIterator.next();
+
+            powerUp.prevX = powerUp.x;
+            powerUp.prevY = powerUp.y;
+            powerUp.x += powerUp.vx * s.slowMoFactor * scaleFactor;
+            powerUp.y += powerUp.vy * s.slowMoFactor * scaleFactor;
+
+            if (checkPaddleCollision(s, powerUp)) {
+                applyPaddlePhysics(s, powerUp);
+                events.powerUpDeflected(powerUp);
+            }
+
+            if (reachedCenter(s, powerUp.x, powerUp.y, powerUp.radius)) {
+                powerUpIterator.remove();
+                events.powerUpReachedCenter(powerUp);
+                continue;
+            }
+
+            if (isOffScreen(s, powerUp.x, powerUp.y)) {
+                powerUpIterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Circle Mode menu balls: same motion and bounce, no slow-mo, no trail, no events
+     */
+    void stepMenuBalls(CircleState s, List<CircleBall> balls) {
+        double scaleFactor = s.scaleFactor;
+        Iterator<CircleBall> it = balls.iterator();
+        while (it.hasNext()) {
+            CircleBall ball = it.next();
+            ball.prevX = ball.x;
+            ball.prevY = ball.y;
+            ball.x += ball.vx * scaleFactor;
+            ball.y += ball.vy * scaleFactor;
+
+            if (checkPaddleCollision(s, ball)) {
+                applyPaddlePhysics(s, ball);
+            }
+
+            if (reachedCenter(s, ball.x, ball.y, ball.radius) || isOffScreen(s, ball.x, ball.y)) {
+                it.remove();
+            }
+        }
+    }
+
+    // Overlap with the paddle arc (front face while moving inward, or either end of the arc)
+    boolean checkPaddleCollision(CircleState s, CircleBall ball) {
+        return checkPaddleCollision(s, ball.x, ball.y, ball.vx, ball.vy, ball.radius);
+    }
+
+    boolean checkPaddleCollision(CircleState s, CirclePowerUp powerUp) {
+        return checkPaddleCollision(s, powerUp.x, powerUp.y, powerUp.vx, powerUp.vy, powerUp.radius);
+    }
+
+    private boolean checkPaddleCollision(CircleState s, double x, double y, double vx, double vy, double radius) {
+        // Angle and distance from center
+        double angle = Math.atan2(y - s.centerY, x - s.centerX);
+        double distFromCenter = Math.sqrt(Math.pow(x - s.centerX, 2) + Math.pow(y - s.centerY, 2));
+
+        // Paddle orbit radius (scaled)
+        double scaleFactor = s.scaleFactor;
+        double scaledCircleRadius = s.radius * scaleFactor;
+        double scaledPaddleDistance = s.paddleDistance * scaleFactor;
+        double scaledPaddleThickness = s.paddleThickness * scaleFactor;
+        double paddleOrbitRadius = scaledCircleRadius + scaledPaddleDistance;
+
+        // Half arc, with the smooth enlarge transition (1.0 = normal, 1.5 = fully enlarged)
+        double arcRadians = Math.toRadians(s.paddleArcDegrees / 2.0);
+        double enlargeFactor = 1.0 + (0.5 * s.paddleEnlargeProgress);
+        arcRadians *= enlargeFactor;
+
+        // Angle difference normalized to [-PI, PI]
+        double angleDiff = angle - s.paddleAngle;
+        while (angleDiff > Math.PI) angleDiff -= 2 * Math.PI;
+        while (angleDiff < -Math.PI) angleDiff += 2 * Math.PI;
+
+        double scaledRadius = radius * scaleFactor;
+
+        // CHECK 1: Front face collision
+        if (Math.abs(angleDiff) <= arcRadians) {
+            // The paddle stroke extends scaledPaddleThickness on both sides of the orbit
+            double paddleInnerEdge = paddleOrbitRadius - scaledPaddleThickness;
+            double paddleOuterEdge = paddleOrbitRadius + scaledPaddleThickness;
+            if (distFromCenter - scaledRadius <= paddleOuterEdge &&
+                distFromCenter + scaledRadius >= paddleInnerEdge) {
+                // Only while moving INWARD (toward center)
+                double radialVelocity = (vx * Math.cos(angle) + vy * Math.sin(angle));
+                if (radialVelocity < 0) {
+                    return true;
+                }
+            }
+        }
+
+        // CHECK 2: Side edge collision (ends of the arc, on the paddle center line)
+        double leftEdgeAngle = s.paddleAngle - arcRadians;
+        double rightEdgeAngle = s.paddleAngle + arcRadians;
+
+        double leftEdgeX = s.centerX + Math.cos(leftEdgeAngle) * paddleOrbitRadius;
+        double leftEdgeY = s.centerY + Math.sin(leftEdgeAngle) * paddleOrbitRadius;
+        double distToLeftEdge = Math.sqrt(Math.pow(x - leftEdgeX, 2) + Math.pow(y - leftEdgeY, 2));
+
+        double rightEdgeX = s.centerX + Math.cos(rightEdgeAngle) * paddleOrbitRadius;
+        double rightEdgeY = s.centerY + Math.sin(rightEdgeAngle) * paddleOrbitRadius;
+        double distToRightEdge = Math.sqrt(Math.pow(x - rightEdgeX, 2) + Math.pow(y - rightEdgeY, 2));
+
+        double edgeCollisionRadius = scaledRadius + scaledPaddleThickness;
+        return distToLeftEdge < edgeCollisionRadius || distToRightEdge < edgeCollisionRadius;
+    }
+
+    // Reflect off the paddle (radial normal), push outward and cap the speed
+    private void applyPaddlePhysics(CircleState s, CircleBall ball) {
+        double ballAngle = Math.atan2(ball.y - s.centerY, ball.x - s.centerX);
+        double normalX = -Math.cos(ballAngle);
+        double normalY = -Math.sin(ballAngle);
+
+        // v' = v - 2(v·n)n
+        double dotProduct = ball.vx * normalX + ball.vy * normalY;
+        ball.vx = ball.vx - 2 * dotProduct * normalX;
+        ball.vy = ball.vy - 2 * dotProduct * normalY;
+
+        ball.x -= normalX * BOUNCE_PUSH;
+        ball.y -= normalY * BOUNCE_PUSH;
+
+        double speed = Math.sqrt(ball.vx * ball.vx + ball.vy * ball.vy);
+        if (speed > MAX_BOUNCE_SPEED) {
+            ball.vx = (ball.vx / speed) * MAX_BOUNCE_SPEED;
+            ball.vy = (ball.vy / speed) * MAX_BOUNCE_SPEED;
+        }
+    }
+
+    // Same as for the balls
+    private void applyPaddlePhysics(CircleState s, CirclePowerUp powerUp) {
+        double powerUpAngle = Math.atan2(powerUp.y - s.centerY, powerUp.x - s.centerX);
+        double normalX = -Math.cos(powerUpAngle);
+        double normalY = -Math.sin(powerUpAngle);
+
+        double dotProduct = powerUp.vx * normalX + powerUp.vy * normalY;
+        powerUp.vx = powerUp.vx - 2 * dotProduct * normalX;
+        powerUp.vy = powerUp.vy - 2 * dotProduct * normalY;
+
+        powerUp.x -= normalX * BOUNCE_PUSH;
+        powerUp.y -= normalY * BOUNCE_PUSH;
+
+        double speed = Math.sqrt(powerUp.vx * powerUp.vx + powerUp.vy * powerUp.vy);
+        if (speed > MAX_BOUNCE_SPEED) {
+            powerUp.vx = (powerUp.vx / speed) * MAX_BOUNCE_SPEED;
+            powerUp.vy = (powerUp.vy / speed) * MAX_BOUNCE_SPEED;
+        }
+    }
+
+    // Touching the center circle (scaled radii, as drawn)
+    private boolean reachedCenter(CircleState s, double x, double y, double radius) {
+        double distToCenter = Math.sqrt(Math.pow(x - s.centerX, 2) + Math.pow(y - s.centerY, 2));
+        return distToCenter < s.radius * s.scaleFactor + radius * s.scaleFactor;
+    }
+
+    private boolean isOffScreen(CircleState s, double x, double y) {
+        return x < -OFF_SCREEN_MARGIN || x > s.boardWidth + OFF_SCREEN_MARGIN
+                || y < -OFF_SCREEN_MARGIN || y > s.boardHeight + OFF_SCREEN_MARGIN;
+    }
+}
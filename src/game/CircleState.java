@@ -0,0 +1,34 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * What CircleSimulation needs to move a Circle Mode tick: arena, paddle and the live balls and power-ups.
+ * Plain data like SimulationState; the game copies its fields in before each step.
+ */
+class CircleState {
+
+    // Arena (already scaled to the window)
+    public int boardWidth = 800;
+    public int boardHeight = 600;
+    public double scaleFactor = 1.0; // min(scaleX, scaleY), applied to velocities and radii
+    public double centerX = 400;
+    public double centerY = 300;
+    public double radius = 80.0; // Center circle to defend (unscaled)
+
+    // Paddle arc around the circle (unscaled)
+    public double paddleAngle = 0.0;
+    public double paddleArcDegrees = 50.0;
+    public double paddleDistance = 20.0;
+    public double paddleThickness = 10.0;
+    public double paddleEnlargeProgress = 0.0; // 0.0 = normal, 1.0 = enlarged (arc x1.5)
+
+    // Power-up effects on motion
+    public double slowMoFactor = 1.0; // Speed factor of normal balls and power-ups (spiral balls ignore it)
+    public boolean trailsEnabled = true;
+
+    // Live objects (shared with the game, not copied)
+    public List<CircleBall> balls = new ArrayList<>();
+    public List<CirclePowerUp> powerUps = new ArrayList<>();
+}
@@ -0,0 +1,216 @@
+package game;
+
+import java.awt.*;
+import java.awt.geom.Point2D;
+import java.util.Arrays;
+
+/**
+ * Shared Color and gradient instances for the draw code, which used to build new ones on every frame.
+ * Color, GradientPaint and RadialGradientPaint are immutable, so one instance per value can be handed
+ * to every caller.
+ * The tables are direct-mapped (one entry per slot, a collision just replaces the entry): lookups never
+ * allocate on a hit, memory stays bounded no matter how many distinct values are asked for, and no lock
+ * is needed because a slot only ever holds a complete immutable entry.
+ */
+public final class ColorCache {
+
+    private static final int COLOR_SLOTS = 1 << 12;
+    private static final int GRADIENT_SLOTS = 1 << 9;
+    private static final int RADIAL_SLOTS = 1 << 6;
+
+    // Fades share this many alpha levels (0-255 in steps of 4), so a fading color needs at most 65 instances
+    public static final int ALPHA_LEVELS = 64;
+
+    private static final Color[] colors = new Color[COLOR_SLOTS];
+    private static final GradientEntry[] gradients = new GradientEntry[GRADIENT_SLOTS];
+    private static final RadialEntry[] radials = new RadialEntry[RADIAL_SLOTS];
+
+    private ColorCache() {
+    }
+
+    // Same arguments and range checks as new Color(r, g, b)
+    public static Color get(int r, int g, int b) {
+        return get(r, g, b, 255);
+    }
+
+    // Same arguments and range checks as new Color(r, g, b, a)
+    public static Color get(int r, int g, int b, int a) {
+        if (((r | g | b | a) & ~0xFF) != 0) {
+            // Let Color report the bad component
+            return new Color(r, g, b, a);
+        }
+        return get((a << 24) | (r << 16) | (g << 8) | b);
+    }
+
+    // Same as new Color(r, g, b) with float components
+    public static Color get(float r, float g, float b) {
+        return get(r, g, b, 1.0f);
+    }
+
+    // Same as new Color(r, g, b, a) with float components
+    public static Color get(float r, float g, float b, float a) {
+        if (r < 0 || r > 1 || g < 0 || g > 1 || b < 0 || b > 1 || a < 0 || a > 1) {
+            return new Color(r, g, b, a);
+        }
+        return get((int) (r * 255 + 0.5), (int) (g * 255 + 0.5), (int) (b * 255 + 0.5), (int) (a * 255 + 0.5));
+    }
+
+    // Same as new Color(rgb, hasAlpha)
+    public static Color get(int rgb, boolean hasAlpha) {
+        return get(hasAlpha ? rgb : 0xFF000000 | rgb);
+    }
+
+    /**
+     * Color for a packed ARGB value
+     */
+    public static Color get(int argb) {
+        int slot = slot(argb, COLOR_SLOTS);
+        Color color = colors[slot];
+        if (color == null || color.getRGB() != argb) {
+            color = new Color(argb, true);
+            colors[slot] = color;
+        }
+        return color;
+    }
+
+    /**
+     * The base color with another alpha (0-255, clamped)
+     */
+    public static Color withAlpha(Color base, int alpha) {
+        alpha = Math.max(0, Math.min(255, alpha));
+        return get((alpha << 24) | (base.getRGB() & 0x00FFFFFF));
+    }
+
+    /**
+     * The base color faded to a fraction (0-1) of its own alpha, on a ramp of ALPHA_LEVELS steps
+     */
+    public static Color fade(Color base, double fraction) {
+        fraction = Math.max(0.0, Math.min(1.0, fraction));
+        int level = (int) (fraction * base.getAlpha() * ALPHA_LEVELS / 255.0 + 0.5);
+        return withAlpha(base, level * 255 / ALPHA_LEVELS);
+    }
+
+    /**
+     * Same as new GradientPaint(x1, y1, color1, x2, y2, color2)
+     */
+    public static GradientPaint gradient(float x1, float y1, Color color1, float x2, float y2, Color color2) {
+        return gradient(x1, y1, color1, x2, y2, color2, false);
+    }
+
+    /**
+     * Same as new GradientPaint(x1, y1, color1, x2, y2, color2, cyclic)
+     */
+    public static GradientPaint gradient(float x1, float y1, Color color1, float x2, float y2, Color color2,
+                                         boolean cyclic) {
+        int rgb1 = color1.getRGB();
+        int rgb2 = color2.getRGB();
+        int hash = Float.floatToIntBits(x1);
+        hash = hash * 31 + Float.floatToIntBits(y1);
+        hash = hash * 31 + Float.floatToIntBits(x2);
+        hash = hash * 31 + Float.floatToIntBits(y2);
+        hash = hash * 31 + rgb1;
+        hash = hash * 31 + rgb2;
+        hash = hash * 31 + (cyclic ? 1 : 0);
+        int slot = slot(hash, GRADIENT_SLOTS);
+
+        GradientEntry entry = gradients[slot];
+        if (entry == null || !entry.matches(x1, y1, rgb1, x2, y2, rgb2, cyclic)) {
+            entry = new GradientEntry(x1, y1, rgb1, x2, y2, rgb2, cyclic,
+                    new GradientPaint(x1, y1, color1, x2, y2, color2, cyclic));
+            gradients[slot] = entry;
+        }
+        return entry.paint;
+    }
+
+    /**
+     * Same as new GradientPaint(point1, color1, point2, color2)
+     */
+    public static GradientPaint gradient(Point2D point1, Color color1, Point2D point2, Color color2) {
+        return gradient((float) point1.getX(), (float) point1.getY(), color1,
+                (float) point2.getX(), (float) point2.getY(), color2, false);
+    }
+
+    /**
+     * Same as new RadialGradientPaint(cx, cy, radius, fractions, colors).
+     * The arrays are compared by content, so callers may pass fresh arrays every frame.
+     */
+    public static RadialGradientPaint radial(float cx, float cy, float radius, float[] fractions, Color[] stops) {
+        int hash = Float.floatToIntBits(cx);
+        hash = hash * 31 + Float.floatToIntBits(cy);
+        hash = hash * 31 + Float.floatToIntBits(radius);
+        hash = hash * 31 + Arrays.hashCode(fractions);
+        for (Color stop : stops) {
+            hash = hash * 31 + stop.getRGB();
+        }
+        int slot = slot(hash, RADIAL_SLOTS);
+
+        RadialEntry entry = radials[slot];
+        if (entry == null || !entry.matches(cx, cy, radius, fractions, stops)) {
+            RadialGradientPaint paint = new RadialGradientPaint(cx, cy, radius, fractions, stops);
+            entry = new RadialEntry(cx, cy, radius, fractions.clone(), stops.clone(), paint);
+            radials[slot] = entry;
+        }
+        return entry.paint;
+    }
+
+    /**
+     * Slot of a hash in a direct-mapped table of the given size (a power of two), for this class and the
+     * other draw caches. The bits are spread first so nearby values do not land in nearby slots.
+     */
+    static int slot(int hash, int slots) {
+        hash *= 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (slots - 1);
+    }
+
+    private static final class GradientEntry {
+        final float x1, y1, x2, y2;
+        final int rgb1, rgb2;
+        final boolean cyclic;
+        final GradientPaint paint;
+
+        GradientEntry(float x1, float y1, int rgb1, float x2, float y2, int rgb2, boolean cyclic, GradientPaint paint) {
+            this.x1 = x1;
+            this.y1 = y1;
+            this.rgb1 = rgb1;
+            this.x2 = x2;
+            this.y2 = y2;
+            this.rgb2 = rgb2;
+            this.cyclic = cyclic;
+            this.paint = paint;
+        }
+
+        boolean matches(float x1, float y1, int rgb1, float x2, float y2, int rgb2, boolean cyclic) {
+            return this.x1 == x1 && this.y1 == y1 && this.x2 == x2 && this.y2 == y2
+                    && this.rgb1 == rgb1 && this.rgb2 == rgb2 && this.cyclic == cyclic;
+        }
+    }
+
+    private static final class RadialEntry {
+        final float cx, cy, radius;
+        final float[] fractions;
+        final Color[] stops;
+        final RadialGradientPaint paint;
+
+        RadialEntry(float cx, float cy, float radius, float[] fractions, Color[] stops, RadialGradientPaint paint) {
+            this.cx = cx;
+            this.cy = cy;
+            this.radius = radius;
+            this.fractions = fractions;
+            this.stops = stops;
+            this.paint = paint;
+        }
+
+        boolean matches(float cx, float cy, float radius, float[] fractions, Color[] stops) {
+            if (this.cx != cx || this.cy != cy || this.radius != radius
+                    || !Arrays.equals(this.fractions, fractions) || this.stops.length != stops.length) {
+                return false;
+            }
+            for (int i = 0; i < stops.length; i++) {
+                if (this.stops[i].getRGB() != stops[i].getRGB()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -59,10 +59,10 @@ public class DemoGame extends PongGame{
         int currentHeight = (int)(startHeight + (targetHeight - startHeight) * progress);
 
         // Draw paddle without rotation (simple transition with position and size changes only)
-        Color paddleColor = new Color(100, 150, 255);
-        Color gradientColor = new Color(150, 200, 255);
+        Color paddleColor = ColorCache.get(100, 150, 255);
+        Color gradientColor = ColorCache.get(150, 200, 255);
 
-        GradientPaint paddleGradient = new GradientPaint(
+        GradientPaint paddleGradient = ColorCache.gradient(
                 currentX, currentY, paddleColor,
                 currentX + currentWidth, currentY + currentHeight, gradientColor);
         g.setPaint(paddleGradient);
@@ -85,14 +85,14 @@ public class DemoGame extends PongGame{
         int scaledBallSize = BALL_SIZE; // Same scaling as game ball
 
         // Ball glow
-        g.setColor(new Color(255, 255, 255, 30));
+        g.setColor(ColorCache.get(255, 255, 255, 30));
         g.fillOval(ballX - 3, ballY - 3, scaledBallSize + 6, scaledBallSize + 6);
 
         // Ball gradient
-        Color ballCenter = new Color(255, 255, 255);
-        Color ballEdge = new Color(200, 200, 255);
+        Color ballCenter = ColorCache.get(255, 255, 255);
+        Color ballEdge = ColorCache.get(200, 200, 255);
 
-        GradientPaint ballGradient = new GradientPaint(
+        GradientPaint ballGradient = ColorCache.gradient(
                 ballX, ballY, ballCenter,
                 ballX + scaledBallSize, ballY + scaledBallSize, ballEdge);
         g.setPaint(ballGradient);
@@ -100,7 +100,7 @@ public class DemoGame extends PongGame{
         g.fillOval(ballX, ballY, scaledBallSize, scaledBallSize);
 
         // Ball highlight
-        g.setColor(new Color(255, 255, 255, 200));
+        g.setColor(ColorCache.get(255, 255, 255, 200));
         int highlightSize = scaledBallSize / 3;
         g.fillOval(ballX + highlightSize/2, ballY + highlightSize/2,
                 highlightSize, highlightSize);
@@ -109,11 +109,11 @@ public class DemoGame extends PongGame{
     private void drawDemoInstructions(Graphics2D g) {
         g.setColor(Color.WHITE);
         float instructSize = (float)(24 * Math.min(scaleX, scaleY)); // Large white text
-        g.setFont(primaryFont.deriveFont(instructSize));
+        g.setFont(FontCache.derive(primaryFont, instructSize));
         FontMetrics instructFm = g.getFontMetrics();
 
         String instruct = getText("SETTINGS_PRESS_ENTER_CONTINUE");
-        int instructX = (BOARD_WIDTH - instructFm.stringWidth(instruct)) / 2;
+        int instructX = (BOARD_WIDTH - FontCache.stringWidth(instructFm, instruct)) / 2;
         int instructY = (int)(BOARD_HEIGHT - 40 * scaleY);
         g.drawString(instruct, instructX, instructY);
     }
@@ -139,7 +139,7 @@ public class DemoGame extends PongGame{
         float startSize = (float)(36 * Math.min(scaleX, scaleY));
         float endSize = (float)(28 * Math.min(scaleX, scaleY));
         float currentSize = startSize + (endSize - startSize) * (float)progress;
-        g.setFont(primaryFont.deriveFont(currentSize));
+        g.setFont(FontCache.derive(primaryFont, currentSize));
         FontMetrics fm = g.getFontMetrics();
 
         // Title text changes gradually
@@ -153,8 +153,8 @@ public class DemoGame extends PongGame{
         int currentPanelX = (int)(BOARD_WIDTH + (panelStartX - BOARD_WIDTH) * progress);
 
         // Position transitions from center to aligned with right panel
-        int startX = (BOARD_WIDTH - fm.stringWidth(currentTitle)) / 2;
-        int endX = currentPanelX + (panelWidth - fm.stringWidth(currentTitle)) / 2; // Centered in right panel
+        int startX = (BOARD_WIDTH - FontCache.stringWidth(fm, currentTitle)) / 2;
+        int endX = currentPanelX + (panelWidth - FontCache.stringWidth(fm, currentTitle)) / 2; // Centered in right panel
         int currentX = (int)(startX + (endX - startX) * progress);
 
         // Y position remains at original height
@@ -196,30 +196,30 @@ public class DemoGame extends PongGame{
 
         // Card background (same style as original settings) - always selected in demo mode
         boolean isSelected = isDemoMode ? true : (cardType == 0 && selectedSetting == 0) || (cardType == 1 && selectedSetting == 1);
-        Color cardBg = isSelected ? new Color(40, 40, 50) : new Color(25, 25, 30);
+        Color cardBg = isSelected ? ColorCache.get(40, 40, 50) : ColorCache.get(25, 25, 30);
         g.setColor(cardBg);
         g.fillRoundRect(currentX, currentY, currentWidth, currentHeight, 12, 12); // Same border radius as original
 
         // Card border (same style as original settings)
         if (isSelected) {
-            g.setColor(new Color(100, 150, 255));
+            g.setColor(ColorCache.get(100, 150, 255));
             g.drawRoundRect(currentX, currentY, currentWidth, currentHeight, 12, 12);
         }
 
         // Title (exactly same style as original settings)
-        g.setColor(isSelected ? new Color(150, 200, 255) : new Color(180, 180, 180));
+        g.setColor(isSelected ? ColorCache.get(150, 200, 255) : ColorCache.get(180, 180, 180));
         float titleSize = (float)(18 * Math.min(scaleX, scaleY)); // Exact original size
-        g.setFont(secondaryFont.deriveFont(titleSize));
+        g.setFont(FontCache.derive(secondaryFont, titleSize));
         FontMetrics titleFm = g.getFontMetrics();
-        int titleX = currentX + (currentWidth - titleFm.stringWidth(title)) / 2;
+        int titleX = currentX + (currentWidth - FontCache.stringWidth(titleFm, title)) / 2;
         int titleY = currentY + (int)(30 * scaleY); // Same as original
         g.drawString(title, titleX, titleY);
 
         // Current value (exactly same style as original settings)
         String valueText = options[currentValue];
         float valueSize = (float)(28 * Math.min(scaleX, scaleY)); // Exact original size
-        FontMetrics valueFm = g.getFontMetrics(primaryFont.deriveFont(valueSize));
-        int valueX = currentX + (currentWidth - valueFm.stringWidth(valueText)) / 2;
+        FontMetrics valueFm = g.getFontMetrics(FontCache.derive(primaryFont, valueSize));
+        int valueX = currentX + (currentWidth - FontCache.stringWidth(valueFm, valueText)) / 2;
         int valueY = currentY + (int)(75 * scaleY); // Same as original
 
         // Use special drawing for AI difficulty
@@ -227,15 +227,15 @@ public class DemoGame extends PongGame{
             drawDifficultyText(g, valueText, valueX, valueY, valueSize, currentValue);
         } else {
             g.setColor(Color.WHITE); // Exact original color
-            g.setFont(primaryFont.deriveFont(valueSize));
+            g.setFont(FontCache.derive(primaryFont, valueSize));
             g.drawString(valueText, valueX, valueY);
         }
 
         // Navigation arrows (only for paddle speed card)
         if (isSelected && cardType == 0) {
-            g.setColor(new Color(100, 150, 255)); // No fade, same as original
+            g.setColor(ColorCache.get(100, 150, 255)); // No fade, same as original
             float arrowSize = (float)(24 * Math.min(scaleX, scaleY)); // Keep original size
-            g.setFont(primaryFont.deriveFont(arrowSize));
+            g.setFont(FontCache.derive(primaryFont, arrowSize));
 
             if (currentValue > 0) {
                 g.drawString("<", currentX + (int)(20 * scaleX), valueY); // Same position as original
@@ -247,13 +247,13 @@ public class DemoGame extends PongGame{
 
         // Add instruction text for both cards
         if (isSelected) {
-            g.setColor(new Color(120, 160, 220));
+            g.setColor(ColorCache.get(120, 160, 220));
             float instructSize = (float)(12 * Math.min(scaleX, scaleY));
-            g.setFont(secondaryFont.deriveFont(instructSize));
+            g.setFont(FontCache.derive(secondaryFont, instructSize));
             FontMetrics instructFm = g.getFontMetrics();
 
             String instruction = cardType == 0 ? getText("SETTINGS_PRESS_ARROWS_PADDLE") : getText("SETTINGS_PRESS_SPACE_CHANGE");
-            int instructX = currentX + (currentWidth - instructFm.stringWidth(instruction)) / 2;
+            int instructX = currentX + (currentWidth - FontCache.stringWidth(instructFm, instruction)) / 2;
             int instructY = valueY + (int)(25 * scaleY); // Below the arrows/value
 
             g.drawString(instruction, instructX, instructY);
@@ -292,10 +292,10 @@ public class DemoGame extends PongGame{
 
         // Red paddle color (based on selection state)
         boolean rightSelected = selectedSetting == 1;
-        Color baseColor = rightSelected ? new Color(255, 100, 100) : new Color(150, 60, 60);
-        Color gradientColor = rightSelected ? new Color(255, 150, 150) : new Color(200, 100, 100);
+        Color baseColor = rightSelected ? ColorCache.get(255, 100, 100) : ColorCache.get(150, 60, 60);
+        Color gradientColor = rightSelected ? ColorCache.get(255, 150, 150) : ColorCache.get(200, 100, 100);
 
-        GradientPaint paddleGradient = new GradientPaint(
+        GradientPaint paddleGradient = ColorCache.gradient(
                 currentX, currentY, baseColor,
                 currentX + currentWidth, currentY + currentHeight, gradientColor);
         g.setPaint(paddleGradient);
@@ -304,7 +304,7 @@ public class DemoGame extends PongGame{
         g.fillRoundRect(currentX, currentY, currentWidth, currentHeight, cornerRadius, cornerRadius);
 
         // Paddle glow
-        g.setColor(new Color(baseColor.getRed(), baseColor.getGreen(), baseColor.getBlue(), 100));
+        g.setColor(ColorCache.get(baseColor.getRed(), baseColor.getGreen(), baseColor.getBlue(), 100));
         g.drawRoundRect(currentX - 2, currentY - 2, currentWidth + 4, currentHeight + 4, cornerRadius + 2, cornerRadius + 2);
     }
 
@@ -340,28 +340,28 @@ public class DemoGame extends PongGame{
         if (cardX < BOARD_WIDTH) {
             // Card background - always selected in demo mode
             boolean isSelected = true; // Both cards always appear selected in demo
-            Color cardBg = new Color(40, 40, 50);
+            Color cardBg = ColorCache.get(40, 40, 50);
             g.setColor(cardBg);
             g.fillRoundRect(cardX, cardY, cardWidth, cardHeight, 12, 12);
 
             // Card border - always show border in demo
-            g.setColor(new Color(100, 150, 255));
+            g.setColor(ColorCache.get(100, 150, 255));
             g.drawRoundRect(cardX, cardY, cardWidth, cardHeight, 12, 12);
 
             // Title
-            g.setColor(isSelected ? new Color(150, 200, 255) : new Color(180, 180, 180));
+            g.setColor(isSelected ? ColorCache.get(150, 200, 255) : ColorCache.get(180, 180, 180));
             float titleSize = (float)(14 * Math.min(scaleX, scaleY));
-            g.setFont(secondaryFont.deriveFont(titleSize));
+            g.setFont(FontCache.derive(secondaryFont, titleSize));
             FontMetrics titleFm = g.getFontMetrics();
-            int titleX = cardX + (cardWidth - titleFm.stringWidth(title)) / 2;
+            int titleX = cardX + (cardWidth - FontCache.stringWidth(titleFm, title)) / 2;
             int titleY = cardY + (int)(20 * scaleY);
             g.drawString(title, titleX, titleY);
 
             // Current value
             String valueText = options[currentValue];
             float valueSize = (float)(20 * Math.min(scaleX, scaleY));
-            FontMetrics valueFm = g.getFontMetrics(primaryFont.deriveFont(valueSize));
-            int valueX = cardX + (cardWidth - valueFm.stringWidth(valueText)) / 2;
+            FontMetrics valueFm = g.getFontMetrics(FontCache.derive(primaryFont, valueSize));
+            int valueX = cardX + (cardWidth - FontCache.stringWidth(valueFm, valueText)) / 2;
             int valueY = cardY + (int)(50 * scaleY);
 
             // Use special drawing for AI difficulty
@@ -369,15 +369,15 @@ public class DemoGame extends PongGame{
                 drawDifficultyText(g, valueText, valueX, valueY, valueSize, currentValue);
             } else {
                 g.setColor(Color.WHITE);
-                g.setFont(primaryFont.deriveFont(valueSize));
+                g.setFont(FontCache.derive(primaryFont, valueSize));
                 g.drawString(valueText, valueX, valueY);
             }
 
             // Navigation arrows (only for selected and only for paddle speed card)
             if (isSelected && cardType == 0) {
-                g.setColor(new Color(100, 150, 255));
+                g.setColor(ColorCache.get(100, 150, 255));
                 float arrowSize = (float)(16 * Math.min(scaleX, scaleY));
-                g.setFont(primaryFont.deriveFont(arrowSize));
+                g.setFont(FontCache.derive(primaryFont, arrowSize));
 
                 if (currentValue > 0) {
                     g.drawString("<", cardX + (int)(10 * scaleX), valueY);
@@ -388,13 +388,13 @@ public class DemoGame extends PongGame{
             }
 
             // Add instruction text for both cards
-            g.setColor(new Color(150, 180, 255));
+            g.setColor(ColorCache.get(150, 180, 255));
             float instructSize = (float)(12 * Math.min(scaleX, scaleY));
-            g.setFont(secondaryFont.deriveFont(instructSize));
+            g.setFont(FontCache.derive(secondaryFont, instructSize));
             FontMetrics instructFm = g.getFontMetrics();
 
             String instruction = cardType == 0 ? getText("SETTINGS_PRESS_ARROWS_PADDLE") : getText("SETTINGS_PRESS_SPACE_CHANGE");
-            int instructX = cardX + (cardWidth - instructFm.stringWidth(instruction)) / 2;
+            int instructX = cardX + (cardWidth - FontCache.stringWidth(instructFm, instruction)) / 2;
             int instructY = cardY + cardHeight - (int)(15 * scaleY); // Position near bottom of card
 
             g.drawString(instruction, instructX, instructY);
@@ -414,14 +414,14 @@ public class DemoGame extends PongGame{
         if (leftPaddleX < BOARD_WIDTH) {
             // Left paddle (blue)
             boolean leftSelected = selectedSetting == 0;
-            Color leftColor = leftSelected ? new Color(100, 150, 255) : new Color(60, 90, 150);
+            Color leftColor = leftSelected ? ColorCache.get(100, 150, 255) : ColorCache.get(60, 90, 150);
             g.setColor(leftColor);
             g.fillRoundRect(leftPaddleX, paddleY, paddleWidth, paddleHeight, 8, 8);
 
             // Right paddle (red) - only if there's space
             if (rightPaddleX + paddleWidth <= BOARD_WIDTH) {
                 boolean rightSelected = selectedSetting == 1;
-                Color rightColor = rightSelected ? new Color(255, 100, 100) : new Color(150, 60, 60);
+                Color rightColor = rightSelected ? ColorCache.get(255, 100, 100) : ColorCache.get(150, 60, 60);
                 g.setColor(rightColor);
                 g.fillRoundRect(rightPaddleX, paddleY, paddleWidth, paddleHeight, 8, 8);
             }
@@ -0,0 +1,114 @@
+package game;
+
+import java.awt.*;
+
+/**
+ * Derived fonts and string widths for the draw code, on top of FontContext.primaryFont/secondaryFont/rankFont.
+ * The draw methods derive the font they need and measure their labels on every frame; the same handful
+ * of sizes and strings come back each time, so both are looked up here instead of being rebuilt.
+ * Fonts are keyed by the base font instance, style and size; widths by font, string and the antialiasing
+ * and fractional-metrics flags of the FontRenderContext, since both change the advance.
+ * Call clear() when the strings or the sizes change for good (language switch, resize).
+ */
+public final class FontCache {
+
+    private static final int FONT_SLOTS = 1 << 8;
+    private static final int WIDTH_SLOTS = 1 << 12;
+
+    private static final FontEntry[] fonts = new FontEntry[FONT_SLOTS];
+    private static volatile WidthEntry[] widths = new WidthEntry[WIDTH_SLOTS];
+
+    private FontCache() {
+    }
+
+    /**
+     * Same as base.deriveFont(size)
+     */
+    public static Font derive(Font base, float size) {
+        return derive(base, base.getStyle(), size);
+    }
+
+    /**
+     * Same as base.deriveFont(style)
+     */
+    public static Font derive(Font base, int style) {
+        return derive(base, style, base.getSize2D());
+    }
+
+    /**
+     * Same as base.deriveFont(style, size)
+     */
+    public static Font derive(Font base, int style, float size) {
+        int hash = System.identityHashCode(base);
+        hash = hash * 31 + style;
+        hash = hash * 31 + Float.floatToIntBits(size);
+        int slot = ColorCache.slot(hash, FONT_SLOTS);
+
+        FontEntry entry = fonts[slot];
+        if (entry == null || entry.base != base || entry.style != style || entry.size != size) {
+            entry = new FontEntry(base, style, size, base.deriveFont(style, size));
+            fonts[slot] = entry;
+        }
+        return entry.font;
+    }
+
+    /**
+     * Same as metrics.stringWidth(text), remembered per font, string and rendering hints
+     */
+    public static int stringWidth(FontMetrics metrics, String text) {
+        if (text == null) {
+            return metrics.stringWidth(text); // Same exception as before
+        }
+        Font font = metrics.getFont();
+        boolean antiAliased = metrics.getFontRenderContext().isAntiAliased();
+        boolean fractional = metrics.getFontRenderContext().usesFractionalMetrics();
+        int hash = font.hashCode();
+        hash = hash * 31 + text.hashCode();
+        hash = hash * 4 + (antiAliased ? 2 : 0) + (fractional ? 1 : 0);
+
+        WidthEntry[] table = widths;
+        int slot = ColorCache.slot(hash, WIDTH_SLOTS);
+        WidthEntry entry = table[slot];
+        if (entry == null || entry.antiAliased != antiAliased || entry.fractional != fractional
+                || !entry.text.equals(text) || (entry.font != font && !entry.font.equals(font))) {
+            entry = new WidthEntry(font, text, antiAliased, fractional, metrics.stringWidth(text));
+            table[slot] = entry;
+        }
+        return entry.width;
+    }
+
+    // Forget all measured strings (language switch, resize)
+    public static void clear() {
+        widths = new WidthEntry[WIDTH_SLOTS];
+    }
+
+    private static final class FontEntry {
+        final Font base;
+        final int style;
+        final float size;
+        final Font font;
+
+        FontEntry(Font base, int style, float size, Font font) {
+            this.base = base;
+            this.style = style;
+            this.size = size;
+            this.font = font;
+        }
+    }
+
+    private static final class WidthEntry {
+        final Font font;
+        final String text;
+        final boolean antiAliased;
+        final boolean fractional;
+        final int width;
+
+        WidthEntry(Font font, String text, boolean antiAliased, boolean fractional, int width) {
+            this.font = font;
+            this.text = text;
+            this.antiAliased = antiAliased;
+            this.fractional = fractional;
+            this.width = width;
+        }
+    }
+}
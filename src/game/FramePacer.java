@@ -0,0 +1,196 @@
+package game;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Deadline based pacer for the GameLoop thread.
+ * Parks the thread until the next logic tick or render deadline and only
+ * busy-waits for the last sub-millisecond, so the loop wakes up once per
+ * deadline instead of every millisecond. Also keeps track of how late each
+ * tick starts compared to its deadline (tick drift).
+ */
+public class FramePacer {
+
+    // Final stretch before a deadline handled with a spin-wait (park granularity is too coarse)
+    private static final long SPIN_THRESHOLD_NANOS = 500_000L;
+    // After a long stall (debugger, window drag) skip ahead instead of running a burst of ticks
+    private static final int MAX_CATCH_UP_TICKS = 5;
+    // Weight of the newest sample in the average drift
+    private static final double DRIFT_SMOOTHING = 1.0 / 32.0;
+
+    private final long tickNanos;
+    private final long renderNanos;
+
+    private long nextTickDeadline;
+    private long nextRenderDeadline;
+    private volatile boolean renderDeadlinesEnabled = true; // Off when another thread paces the frames
+    private volatile long lastTickTime;
+    private volatile long lastTickDeadline; // Scheduled time of the most recent tick (for interpolation)
+
+    // Drift statistics (written by the game loop, read by the debug overlay)
+    private volatile long lastDriftNanos = 0;
+    private volatile long maxDriftNanos = 0;
+    private volatile double averageDriftNanos = 0.0;
+    private volatile long tickCount = 0;
+    private volatile long skippedTicks = 0;
+
+    public FramePacer(int tickRate, int renderRate) {
+        this.tickNanos = 1_000_000_000L / tickRate;
+        this.renderNanos = 1_000_000_000L / renderRate;
+    }
+
+    // Align the first deadlines with the current time
+    public void start() {
+        resync(System.nanoTime());
+    }
+
+    /**
+     * Restart the schedule from now, e.g. after the loop polled slowly while idle
+     * (the ticks it did not run on schedule are not missed ticks)
+     */
+    public void resync(long now) {
+        nextTickDeadline = now + tickNanos;
+        nextRenderDeadline = now;
+        lastTickTime = now;
+        lastTickDeadline = now;
+    }
+
+    /**
+     * Check whether a logic tick is due and, if so, consume its deadline.
+     * Call in a loop: returns true once for every tick that has to run now.
+     */
+    public boolean beginTick(long now) {
+        if (now < nextTickDeadline) {
+            return false;
+        }
+
+        long drift = now - nextTickDeadline;
+        recordDrift(drift);
+
+        if (drift >= MAX_CATCH_UP_TICKS * tickNanos) {
+            // Too far behind: drop the missed ticks and restart the schedule from now
+            skippedTicks += drift / tickNanos;
+            lastTickDeadline = now;
+            nextTickDeadline = now + tickNanos;
+        } else {
+            lastTickDeadline = nextTickDeadline;
+            nextTickDeadline += tickNanos;
+        }
+        lastTickTime = now;
+        return true;
+    }
+
+    /**
+     * Check whether a frame should be requested and, if so, consume its deadline
+     */
+    public boolean beginRender(long now) {
+        if (!renderDeadlinesEnabled || now < nextRenderDeadline) {
+            return false;
+        }
+        nextRenderDeadline += renderNanos;
+        if (nextRenderDeadline <= now) {
+            // Missed one or more render slots: realign instead of requesting a burst of frames
+            nextRenderDeadline = now + renderNanos;
+        }
+        return true;
+    }
+
+    /**
+     * Sleep until the earliest pending deadline.
+     * Parks for the bulk of the wait and spins only for the final sub-millisecond.
+     */
+    public void awaitNextDeadline() throws InterruptedException {
+        long target = renderDeadlinesEnabled ? Math.min(nextTickDeadline, nextRenderDeadline) : nextTickDeadline;
+        long remaining;
+        while ((remaining = target - System.nanoTime()) > SPIN_THRESHOLD_NANOS) {
+            LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        while (System.nanoTime() < target) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Fraction of a tick elapsed since the last logic tick (the accumulator divided by the step).
+     * 0.0 = state of the previous tick, 1.0 = state of the latest tick.
+     */
+    public double getInterpolationAlpha(long now) {
+        return getInterpolationAlpha(now, lastTickDeadline);
+    }
+
+    // Same as above, measured from the deadline of a specific tick (e.g. the one a render snapshot was taken at)
+    public double getInterpolationAlpha(long now, long tickDeadline) {
+        double alpha = (double) (now - tickDeadline) / tickNanos;
+        return Math.max(0.0, Math.min(1.0, alpha));
+    }
+
+    /**
+     * Turn render deadlines off when frames are paced elsewhere (active rendering),
+     * so the loop only wakes up for logic ticks
+     */
+    public void setRenderDeadlinesEnabled(boolean enabled) {
+        renderDeadlinesEnabled = enabled;
+    }
+
+    private void recordDrift(long drift) {
+        lastDriftNanos = drift;
+        if (drift > maxDriftNanos) {
+            maxDriftNanos = drift;
+        }
+        averageDriftNanos += (drift - averageDriftNanos) * DRIFT_SMOOTHING;
+        tickCount++;
+    }
+
+    public void resetStatistics() {
+        lastDriftNanos = 0;
+        maxDriftNanos = 0;
+        averageDriftNanos = 0.0;
+        tickCount = 0;
+        skippedTicks = 0;
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    public long getRenderNanos() {
+        return renderNanos;
+    }
+
+    public long getLastTickTime() {
+        return lastTickTime;
+    }
+
+    public long getLastTickDeadline() {
+        return lastTickDeadline;
+    }
+
+    public long getLastDriftNanos() {
+        return lastDriftNanos;
+    }
+
+    public long getMaxDriftNanos() {
+        return maxDriftNanos;
+    }
+
+    public double getAverageDriftNanos() {
+        return averageDriftNanos;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public long getSkippedTicks() {
+        return skippedTicks;
+    }
+
+    // Short summary for debug output, e.g. "drift avg 0.04ms max 0.31ms"
+    public String describeDrift() {
+        return String.format("Tick drift: avg %.2fms max %.2fms (skipped %d)",
+                averageDriftNanos / 1_000_000.0, maxDriftNanos / 1_000_000.0, skippedTicks);
+    }
+}
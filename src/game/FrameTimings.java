@@ -0,0 +1,175 @@
+package game;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Where frame time goes: one latency histogram per phase.
+ * - tick: updateGameLogic on the GameLoop thread, split by game state
+ * - draw: the state branch of the frame (drawMenu, drawGame, ...), split by game state
+ * - notifications: the notification overlay drawn on top of every frame
+ * - frame: the whole frame
+ * - frame allocation: bytes allocated by the drawing thread during a frame (when the JVM can tell)
+ * Shown by the timing overlay and exported to CSV to find the screens that go over the frame budget.
+ */
+public class FrameTimings {
+
+    // Frame budget at the render rate (same as QualityGovernor)
+    private final long frameBudgetNanos;
+
+    // Tick histograms are written by the GameLoop thread, the others by the thread that draws
+    private final Map<GameState, LatencyHistogram> tickByState = new EnumMap<>(GameState.class);
+    private final Map<GameState, LatencyHistogram> drawByState = new EnumMap<>(GameState.class);
+    private final LatencyHistogram tick = new LatencyHistogram();
+    private final LatencyHistogram notifications = new LatencyHistogram();
+    private final LatencyHistogram frame = new LatencyHistogram();
+    private final LatencyHistogram frameAllocation = new LatencyHistogram(); // Bytes, not nanoseconds
+
+    // Per-thread allocation counter (HotSpot only), missing e.g. in the web build
+    private static final boolean ALLOCATION_SUPPORTED = isAllocationSupported();
+
+    /**
+     * @param frameBudgetNanos time of one frame at the render rate, the limit marked in the overlay and the CSV
+     */
+    public FrameTimings(long frameBudgetNanos) {
+        this.frameBudgetNanos = frameBudgetNanos;
+        // Allocate everything up front: recording never allocates
+        for (GameState state : GameState.values()) {
+            tickByState.put(state, new LatencyHistogram());
+            drawByState.put(state, new LatencyHistogram());
+        }
+    }
+
+    public void recordTick(GameState state, long nanos) {
+        tick.record(nanos);
+        tickByState.get(state).record(nanos);
+    }
+
+    public void recordDraw(GameState state, long nanos) {
+        drawByState.get(state).record(nanos);
+    }
+
+    public void recordNotifications(long nanos) {
+        notifications.record(nanos);
+    }
+
+    public void recordFrame(long nanos) {
+        frame.record(nanos);
+    }
+
+    public void recordFrameAllocation(long bytes) {
+        frameAllocation.record(bytes);
+    }
+
+    private static boolean isAllocationSupported() {
+        try {
+            return AllocationProbe.BEAN != null;
+        } catch (Throwable e) {
+            // No com.sun.management: allocation is simply not measured
+            return false;
+        }
+    }
+
+    /**
+     * Total bytes allocated so far by the calling thread, -1 if the JVM cannot tell
+     */
+    public static long currentThreadAllocatedBytes() {
+        return ALLOCATION_SUPPORTED ? AllocationProbe.BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+
+    // Separate class so FrameTimings still loads on a JVM without com.sun.management
+    private static class AllocationProbe {
+        static final com.sun.management.ThreadMXBean BEAN = find();
+
+        private static com.sun.management.ThreadMXBean find() {
+            java.lang.management.ThreadMXBean bean = java.lang.management.ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+                if (allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()) {
+                    return allocationBean;
+                }
+            }
+            return null;
+        }
+    }
+
+    public void reset() {
+        tick.reset();
+        notifications.reset();
+        frame.reset();
+        frameAllocation.reset();
+        for (GameState state : GameState.values()) {
+            tickByState.get(state).reset();
+            drawByState.get(state).reset();
+        }
+    }
+
+    private static class Phase {
+        final String name;
+        final LatencyHistogram histogram;
+
+        Phase(String name, LatencyHistogram histogram) {
+            this.name = name;
+            this.histogram = histogram;
+        }
+    }
+
+    // Phases in display order, per-state ones only when that state has samples
+    private List<Phase> phases() {
+        List<Phase> phases = new ArrayList<>();
+        phases.add(new Phase("frame", frame));
+        phases.add(new Phase("notifications", notifications));
+        for (GameState state : GameState.values()) {
+            if (drawByState.get(state).getCount() > 0) {
+                phases.add(new Phase("draw " + state, drawByState.get(state)));
+            }
+        }
+        phases.add(new Phase("tick", tick));
+        for (GameState state : GameState.values()) {
+            if (tickByState.get(state).getCount() > 0) {
+                phases.add(new Phase("tick " + state, tickByState.get(state)));
+            }
+        }
+        return phases;
+    }
+
+    // One line per phase for the overlay, starting with '*' when p99 is over the frame budget
+    public List<String> describeTimings() {
+        List<String> lines = new ArrayList<>();
+        for (Phase phase : phases()) {
+            LatencyHistogram histogram = phase.histogram;
+            long p99 = histogram.getPercentileNanos(99);
+            lines.add(String.format("%s %-26s p50 %6.2f  p99 %6.2f  max %6.2f ms  >%.1fms %d/%d",
+                    p99 > frameBudgetNanos ? "*" : " ", phase.name, histogram.getPercentileNanos(50) / 1_000_000.0,
+                    p99 / 1_000_000.0, histogram.getMaxNanos() / 1_000_000.0, frameBudgetNanos / 1_000_000.0,
+                    histogram.countAbove(frameBudgetNanos), histogram.getCount()));
+        }
+        if (frameAllocation.getCount() > 0) {
+            // Same histogram, values are bytes
+            lines.add(String.format("  %-26s p50 %6.1f  p99 %6.1f  max %6.1f KB  mean %.1f KB",
+                    "frame allocation", frameAllocation.getPercentileNanos(50) / 1024.0,
+                    frameAllocation.getPercentileNanos(99) / 1024.0, frameAllocation.getMaxNanos() / 1024.0,
+                    frameAllocation.getMeanNanos() / 1024.0));
+        }
+        return lines;
+    }
+
+    public void exportCsv(File file) throws IOException {
+        try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
+            out.println("phase,count,mean_ms,p50_ms,p90_ms,p99_ms,max_ms,over_budget");
+            for (Phase phase : phases()) {
+                LatencyHistogram histogram = phase.histogram;
+                out.println(String.format(java.util.Locale.ROOT, "%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%d",
+                        phase.name, histogram.getCount(), histogram.getMeanNanos() / 1_000_000.0,
+                        histogram.getPercentileNanos(50) / 1_000_000.0, histogram.getPercentileNanos(90) / 1_000_000.0,
+                        histogram.getPercentileNanos(99) / 1_000_000.0, histogram.getMaxNanos() / 1_000_000.0,
+                        histogram.countAbove(frameBudgetNanos)));
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package game;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Slows the GameLoop down when nothing on screen moves or nobody can see it.
+ * The loop asks for the mode once per iteration:
+ * - ACTIVE: gameplay, transitions, animations, or input less than INPUT_GRACE_NANOS ago: full tick and frame rate
+ * - BACKGROUND: same, but the window is not focused (frames capped to BACKGROUND_FRAME_NANOS)
+ *   or iconified during a match (no frames, the match keeps its full tick rate)
+ * - IDLE: static screen and no recent input: one logic tick per poll, no frames (the last one is still on screen)
+ * - HIDDEN: window iconified outside a match: one logic tick per poll, no frames
+ * Input calls wake(), which unparks the loop and keeps it ACTIVE for the grace period; so does the loop
+ * when an idle tick changed what the screen shows.
+ */
+public class IdleScheduler {
+
+    public enum Mode { ACTIVE, BACKGROUND, IDLE, HIDDEN }
+
+    // Input keeps the full rate for a while (hover fades, scroll easing and key repeats that follow it)
+    private static final long INPUT_GRACE_NANOS = 1_000_000_000L;
+    // Wait between logic ticks when idle or hidden (the tick notices changes made by the logic itself)
+    private static final long IDLE_POLL_NANOS = 100_000_000L;
+    // Frame rate cap while the window is in the background
+    private static final long BACKGROUND_FRAME_NANOS = 1_000_000_000L / 15;
+
+    private volatile Thread loopThread;
+    private volatile long lastInputTime = System.nanoTime();
+    private volatile boolean windowFocused = true;
+    private volatile boolean windowIconified = false;
+
+    // Written by the loop thread, read by whichever thread paces the frames
+    private volatile Mode mode = Mode.ACTIVE;
+    private long lastBackgroundFrame = 0;
+    private volatile long idleTicks = 0;
+    private volatile long modeChanges = 0;
+
+    // Thread to unpark on wake() (the GameLoop)
+    public void attach(Thread thread) {
+        loopThread = thread;
+    }
+
+    /**
+     * Something happened that can change the screen (input, window shown): back to full rate now
+     */
+    public void wake() {
+        lastInputTime = System.nanoTime();
+        Thread thread = loopThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    public void setWindowFocused(boolean focused) {
+        windowFocused = focused;
+        if (focused) {
+            wake();
+        }
+    }
+
+    public void setWindowIconified(boolean iconified) {
+        windowIconified = iconified;
+        if (!iconified) {
+            wake();
+        }
+    }
+
+    /**
+     * Mode for this loop iteration
+     * @param screenStatic nothing on the current screen moves by itself
+     * @param matchRunning a match is being played (its logic never slows down)
+     */
+    public Mode update(long now, boolean screenStatic, boolean matchRunning) {
+        Mode next;
+        if (windowIconified) {
+            next = matchRunning ? Mode.BACKGROUND : Mode.HIDDEN;
+        } else if (screenStatic && now - lastInputTime > INPUT_GRACE_NANOS) {
+            next = Mode.IDLE;
+        } else {
+            next = windowFocused ? Mode.ACTIVE : Mode.BACKGROUND;
+        }
+        if (next != mode) {
+            mode = next;
+            modeChanges++;
+        }
+        return next;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Whether a frame due at the render rate should be requested in the current mode
+     */
+    public boolean allowFrame(long now) {
+        switch (mode) {
+            case ACTIVE:
+                return true;
+            case BACKGROUND:
+                if (windowIconified || now - lastBackgroundFrame < BACKGROUND_FRAME_NANOS) {
+                    return false;
+                }
+                lastBackgroundFrame = now;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Park the loop until the next idle poll, or until wake()
+     */
+    public void awaitPoll() throws InterruptedException {
+        idleTicks++;
+        LockSupport.parkNanos(IDLE_POLL_NANOS);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    // Short summary for debug output
+    public String describeIdle() {
+        return "Idle: " + mode + " (idle ticks " + idleTicks + ", mode changes " + modeChanges + ")";
+    }
+}
@@ -0,0 +1,115 @@
+package game;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.function.ToLongFunction;
+
+/**
+ * Optional fixed render resolution: when the window is bigger than the target, the frame is drawn into an
+ * offscreen buffer of at most the target size and stretched to the window with a single blit.
+ * The layout stays in window coordinates (scaleX/scaleY, getWidth()); the buffer is drawn through a scale
+ * transform, so only the number of pixels filled is bounded, which is what grows with the window.
+ * Aspect ratio of the window is kept, the buffer is never bigger than the window.
+ * Screens drawn through the RetainedFrame skip it: they only redraw their dirty regions, at window size.
+ * The caches drawn into the buffer (CachedLayer, CheckerboardRenderer, TextSprites, ParticleSprites) see
+ * the scale in the Graphics transform: they build their images at the buffer scale and blit them with the
+ * translation only (see isScaleTranslate()), instead of building at window size and shrinking every frame.
+ */
+public class InternalResolution {
+
+    private final int targetWidth;
+    private final int targetHeight;
+    private final Object interpolation;
+
+    private BufferedImage buffer;
+    private volatile long scaledFrames = 0;
+
+    /**
+     * @param targetWidth  widest buffer drawn, 0 = always draw at window size
+     * @param bilinear     bilinear upscale, otherwise nearest neighbor (sharper, blocky)
+     */
+    public InternalResolution(int targetWidth, int targetHeight, boolean bilinear) {
+        this.targetWidth = targetWidth;
+        this.targetHeight = targetHeight;
+        this.interpolation = bilinear
+            ? RenderingHints.VALUE_INTERPOLATION_BILINEAR : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR;
+    }
+
+    /**
+     * Whether a window of this size is drawn through the buffer
+     */
+    public boolean isScaling(int width, int height) {
+        return targetWidth > 0 && (width > targetWidth || height > targetHeight);
+    }
+
+    /**
+     * Draw a frame of width x height into g, through the buffer when the window is bigger than the target
+     * @param renderer draws the whole frame in window coordinates and returns its state time
+     * @return what the renderer returned
+     */
+    public long render(Graphics2D g, GraphicsConfiguration gc, int width, int height, ToLongFunction<Graphics2D> renderer) {
+        if (!isScaling(width, height)) {
+            return renderer.applyAsLong(g);
+        }
+        double factor = Math.min((double) targetWidth / width, (double) targetHeight / height);
+        int bufferWidth = Math.max(1, (int) Math.round(width * factor));
+        int bufferHeight = Math.max(1, (int) Math.round(height * factor));
+        if (buffer == null || buffer.getWidth() != bufferWidth || buffer.getHeight() != bufferHeight) {
+            buffer = gc != null
+                ? gc.createCompatibleImage(bufferWidth, bufferHeight, Transparency.OPAQUE)
+                : new BufferedImage(bufferWidth, bufferHeight, BufferedImage.TYPE_INT_RGB);
+        }
+
+        long result;
+        Graphics2D bg = buffer.createGraphics();
+        try {
+            bg.scale((double) bufferWidth / width, (double) bufferHeight / height);
+            result = renderer.applyAsLong(bg);
+        } finally {
+            bg.dispose();
+        }
+
+        Object previous = g.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+        g.drawImage(buffer, 0, 0, width, height, null);
+        if (previous != null) {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, previous);
+        }
+        scaledFrames++;
+        return result;
+    }
+
+    /**
+     * True if t only scales (positive factors) and translates, like the transform of the buffer Graphics:
+     * an image built at t's scale then lands on the same pixels when drawn with deviceTranslation()
+     */
+    static boolean isScaleTranslate(AffineTransform t) {
+        int other = t.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_UNIFORM_SCALE
+                | AffineTransform.TYPE_GENERAL_SCALE);
+        return other == 0 && t.getScaleX() > 0 && t.getScaleY() > 0;
+    }
+
+    /**
+     * True if t is a scale and translation with a scale other than 1 (drawing into the buffer)
+     */
+    static boolean isScaled(AffineTransform t) {
+        return (t.getType() & ~AffineTransform.TYPE_TRANSLATION) != 0 && isScaleTranslate(t);
+    }
+
+    /**
+     * The translation of t alone, written into the reused transform into
+     */
+    static AffineTransform deviceTranslation(AffineTransform t, AffineTransform into) {
+        into.setToTranslation(t.getTranslateX(), t.getTranslateY());
+        return into;
+    }
+
+    // Short summary for debug output
+    public String describeResolution() {
+        if (targetWidth <= 0) {
+            return "Internal resolution: off";
+        }
+        return "Internal resolution: " + targetWidth + "x" + targetHeight + " (" + scaledFrames + " scaled frames)";
+    }
+}
@@ -0,0 +1,105 @@
+package game;
+
+/**
+ * Fixed-size histogram of durations, good for percentiles of frame and tick times.
+ * Buckets are log-linear on microseconds: exact below 8us, then 8 buckets per power of two
+ * (about 12% resolution) up to ~17 minutes, so memory never grows no matter how many samples are recorded.
+ * Written by a single thread; readers on other threads may see a sample or two late, which is fine for display.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40; // 2^40 us
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private volatile long totalCount = 0;
+    private volatile long totalNanos = 0;
+    private volatile long maxNanos = 0;
+
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        counts[bucketIndex(nanos / 1000)]++;
+        totalNanos += nanos;
+        if (nanos > maxNanos) {
+            maxNanos = nanos;
+        }
+        totalCount++;
+    }
+
+    public void reset() {
+        java.util.Arrays.fill(counts, 0);
+        totalCount = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanNanos() {
+        long count = totalCount;
+        return count == 0 ? 0.0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Upper bound of the bucket holding the given percentile (0-100), never above the recorded maximum
+     */
+    public long getPercentileNanos(double percentile) {
+        long count = totalCount;
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperMicros(i) * 1000, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Number of samples longer than the given duration (bucket resolution)
+     */
+    public long countAbove(long nanos) {
+        int first = bucketIndex(nanos / 1000) + 1;
+        long above = 0;
+        for (int i = first; i < BUCKET_COUNT; i++) {
+            above += counts[i];
+        }
+        return above;
+    }
+
+    private static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long bucketUpperMicros(int index) {
+        if (index < SUB_BUCKETS) {
+            return index + 1;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (subBucket + 1) * width;
+    }
+}
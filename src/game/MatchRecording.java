@@ -0,0 +1,350 @@
+package game;
+
+import java.io.*;
+import java.util.Arrays;
+
+/**
+ * Compact record of a deterministic classic match: the seed, the simulation state before the first serve
+ * and the held keys, logged only on the ticks where they change.
+ * Together with PongSimulation this is enough to play the whole match again tick by tick (see MatchReplayer).
+ *
+ * File layout (DataOutputStream): magic, version, seed, mode, start state, event count, events as
+ * (tick delta, key bits) with variable length deltas, then the end tick, final score and state checksum.
+ */
+public class MatchRecording {
+
+    private static final int MAGIC = 0x50505231; // "PPR1"
+    private static final int VERSION = 2; // 2: tick rate instead of a rounded tick length in milliseconds
+
+    // Key bits
+    public static final int LEFT_UP = 1;
+    public static final int LEFT_DOWN = 1 << 1;
+    public static final int RIGHT_UP = 1 << 2;
+    public static final int RIGHT_DOWN = 1 << 3;
+
+    long seed;
+    boolean singlePlayer; // Mode of the match (the start state is taken before the mode is switched on)
+    final SimulationState start = new SimulationState();
+
+    // Input log (only changes)
+    int eventCount = 0;
+    long[] eventTicks = new long[256];
+    byte[] eventInputs = new byte[256];
+    private int lastInput = 0;
+
+    // Result, filled by finish()
+    long endTick = -1;
+    int finalScore1, finalScore2;
+    long finalChecksum;
+
+    /**
+     * Start recording. Call before the first serve: the replay starts from this state and serves with the same seed.
+     */
+    public MatchRecording(long seed, boolean singlePlayer, SimulationState state) {
+        this.seed = seed;
+        this.singlePlayer = singlePlayer;
+        copyState(state, start);
+    }
+
+    private MatchRecording() {
+    }
+
+    /**
+     * Log the keys held for the tick about to be stepped, if they changed
+     */
+    public void recordInput(SimulationState s) {
+        int input = inputBits(s);
+        if (input == lastInput) {
+            return;
+        }
+        if (eventCount == eventTicks.length) {
+            eventTicks = Arrays.copyOf(eventTicks, eventCount * 2);
+            eventInputs = Arrays.copyOf(eventInputs, eventCount * 2);
+        }
+        eventTicks[eventCount] = s.tick;
+        eventInputs[eventCount] = (byte) input;
+        eventCount++;
+        lastInput = input;
+    }
+
+    public void finish(SimulationState s) {
+        endTick = s.tick;
+        finalScore1 = s.score1;
+        finalScore2 = s.score2;
+        finalChecksum = checksum(s);
+    }
+
+    public boolean isFinished() {
+        return endTick >= 0;
+    }
+
+    public long getEndTick() {
+        return endTick;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    static int inputBits(SimulationState s) {
+        int input = 0;
+        if (s.leftUp) input |= LEFT_UP;
+        if (s.leftDown) input |= LEFT_DOWN;
+        if (s.rightUp) input |= RIGHT_UP;
+        if (s.rightDown) input |= RIGHT_DOWN;
+        return input;
+    }
+
+    static void applyInput(SimulationState s, int input) {
+        s.leftUp = (input & LEFT_UP) != 0;
+        s.leftDown = (input & LEFT_DOWN) != 0;
+        s.rightUp = (input & RIGHT_UP) != 0;
+        s.rightDown = (input & RIGHT_DOWN) != 0;
+    }
+
+    /**
+     * Hash of the physics state, equal on two runs only if they went exactly the same way
+     */
+    public static long checksum(SimulationState s) {
+        long hash = 17;
+        hash = hash * 31 + Double.doubleToLongBits(s.ballX);
+        hash = hash * 31 + Double.doubleToLongBits(s.ballY);
+        hash = hash * 31 + Double.doubleToLongBits(s.ballVX);
+        hash = hash * 31 + Double.doubleToLongBits(s.ballVY);
+        hash = hash * 31 + Double.doubleToLongBits(s.aiPaddleY);
+        hash = hash * 31 + s.paddle1Y;
+        hash = hash * 31 + s.paddle2Y;
+        hash = hash * 31 + s.score1;
+        hash = hash * 31 + s.score2;
+        hash = hash * 31 + s.rallies;
+        hash = hash * 31 + s.tick;
+        return hash;
+    }
+
+    /**
+     * Copy every field the simulation reads. Rally lists are copied by value, the random generator is not copied.
+     */
+    static void copyState(SimulationState from, SimulationState to) {
+        to.boardWidth = from.boardWidth;
+        to.boardHeight = from.boardHeight;
+        to.paddleWidth = from.paddleWidth;
+        to.paddleHeight = from.paddleHeight;
+        to.ballSize = from.ballSize;
+        to.scaleX = from.scaleX;
+        to.scaleY = from.scaleY;
+        to.singlePlayer = from.singlePlayer;
+        to.paddleSpeedSetting = from.paddleSpeedSetting;
+        to.aiDifficultySetting = from.aiDifficultySetting;
+        to.ballSpeedSetting = from.ballSpeedSetting;
+        to.leftUp = from.leftUp;
+        to.leftDown = from.leftDown;
+        to.rightUp = from.rightUp;
+        to.rightDown = from.rightDown;
+        to.ballX = from.ballX;
+        to.ballY = from.ballY;
+        to.ballVX = from.ballVX;
+        to.ballVY = from.ballVY;
+        to.maxBallSpeed = from.maxBallSpeed;
+        to.minBallSpeed = from.minBallSpeed;
+        to.paddle1Y = from.paddle1Y;
+        to.paddle2Y = from.paddle2Y;
+        to.prevPaddle1Y = from.prevPaddle1Y;
+        to.prevPaddle2Y = from.prevPaddle2Y;
+        to.aiPaddleY = from.aiPaddleY;
+        to.aiCurrentVelocity = from.aiCurrentVelocity;
+        to.score1 = from.score1;
+        to.score2 = from.score2;
+        to.rallies = from.rallies;
+        to.currentRallyHits = from.currentRallyHits;
+        to.consecutivePaddleBounces = from.consecutivePaddleBounces;
+        to.doublePointsActive = from.doublePointsActive;
+        to.unlimitedSpeedActive = from.unlimitedSpeedActive;
+        to.playerWinStreak = from.playerWinStreak;
+        to.aiWinStreak = from.aiWinStreak;
+        to.lastPointWinner = from.lastPointWinner;
+        to.consecutiveMissedShots = from.consecutiveMissedShots;
+        to.rallyDurations.copyFrom(from.rallyDurations);
+        to.rallyHitCounts.copyFrom(from.rallyHitCounts);
+        to.ballSpeedHistory.copyFrom(from.ballSpeedHistory);
+        to.averageRallyLength = from.averageRallyLength;
+        to.tick = from.tick;
+        to.timeMillis = from.timeMillis;
+        to.tickRate = from.tickRate;
+        to.gameStartTime = from.gameStartTime;
+        to.currentRallyStartTime = from.currentRallyStartTime;
+        to.lastAIUpdate = from.lastAIUpdate;
+        to.lastBallDirectionChange = from.lastBallDirectionChange;
+    }
+
+    public void save(File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(seed);
+            out.writeBoolean(singlePlayer);
+            writeState(out, start);
+
+            out.writeInt(eventCount);
+            long previousTick = 0;
+            for (int i = 0; i < eventCount; i++) {
+                writeVarLong(out, eventTicks[i] - previousTick);
+                out.writeByte(eventInputs[i]);
+                previousTick = eventTicks[i];
+            }
+
+            out.writeLong(endTick);
+            out.writeInt(finalScore1);
+            out.writeInt(finalScore2);
+            out.writeLong(finalChecksum);
+        }
+    }
+
+    public static MatchRecording load(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a PongPing match recording: " + file);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported recording version " + version + ": " + file);
+            }
+            MatchRecording recording = new MatchRecording();
+            recording.seed = in.readLong();
+            recording.singlePlayer = in.readBoolean();
+            readState(in, recording.start);
+
+            int count = in.readInt();
+            recording.eventTicks = new long[Math.max(1, count)];
+            recording.eventInputs = new byte[Math.max(1, count)];
+            long tick = 0;
+            for (int i = 0; i < count; i++) {
+                tick += readVarLong(in);
+                recording.eventTicks[i] = tick;
+                recording.eventInputs[i] = in.readByte();
+            }
+            recording.eventCount = count;
+
+            recording.endTick = in.readLong();
+            recording.finalScore1 = in.readInt();
+            recording.finalScore2 = in.readInt();
+            recording.finalChecksum = in.readLong();
+            return recording;
+        }
+    }
+
+    // Start state: the lists are empty at the start of a match, so only scalars are stored
+    private static void writeState(DataOutputStream out, SimulationState s) throws IOException {
+        out.writeInt(s.boardWidth);
+        out.writeInt(s.boardHeight);
+        out.writeInt(s.paddleWidth);
+        out.writeInt(s.paddleHeight);
+        out.writeInt(s.ballSize);
+        out.writeDouble(s.scaleX);
+        out.writeDouble(s.scaleY);
+        out.writeBoolean(s.singlePlayer);
+        out.writeInt(s.paddleSpeedSetting);
+        out.writeInt(s.aiDifficultySetting);
+        out.writeInt(s.ballSpeedSetting);
+        out.writeDouble(s.ballX);
+        out.writeDouble(s.ballY);
+        out.writeDouble(s.ballVX);
+        out.writeDouble(s.ballVY);
+        out.writeDouble(s.maxBallSpeed);
+        out.writeDouble(s.minBallSpeed);
+        out.writeInt(s.paddle1Y);
+        out.writeInt(s.paddle2Y);
+        out.writeInt(s.prevPaddle1Y);
+        out.writeInt(s.prevPaddle2Y);
+        out.writeDouble(s.aiPaddleY);
+        out.writeDouble(s.aiCurrentVelocity);
+        out.writeInt(s.score1);
+        out.writeInt(s.score2);
+        out.writeInt(s.rallies);
+        out.writeInt(s.currentRallyHits);
+        out.writeInt(s.consecutivePaddleBounces);
+        out.writeBoolean(s.doublePointsActive);
+        out.writeBoolean(s.unlimitedSpeedActive);
+        out.writeInt(s.playerWinStreak);
+        out.writeInt(s.aiWinStreak);
+        out.writeInt(s.lastPointWinner);
+        out.writeInt(s.consecutiveMissedShots);
+        out.writeDouble(s.averageRallyLength);
+        out.writeLong(s.tick);
+        out.writeLong(s.timeMillis);
+        out.writeInt(s.tickRate);
+        out.writeLong(s.gameStartTime);
+        out.writeLong(s.currentRallyStartTime);
+        out.writeLong(s.lastAIUpdate);
+        out.writeLong(s.lastBallDirectionChange);
+    }
+
+    private static void readState(DataInputStream in, SimulationState s) throws IOException {
+        s.boardWidth = in.readInt();
+        s.boardHeight = in.readInt();
+        s.paddleWidth = in.readInt();
+        s.paddleHeight = in.readInt();
+        s.ballSize = in.readInt();
+        s.scaleX = in.readDouble();
+        s.scaleY = in.readDouble();
+        s.singlePlayer = in.readBoolean();
+        s.paddleSpeedSetting = in.readInt();
+        s.aiDifficultySetting = in.readInt();
+        s.ballSpeedSetting = in.readInt();
+        s.ballX = in.readDouble();
+        s.ballY = in.readDouble();
+        s.ballVX = in.readDouble();
+        s.ballVY = in.readDouble();
+        s.maxBallSpeed = in.readDouble();
+        s.minBallSpeed = in.readDouble();
+        s.paddle1Y = in.readInt();
+        s.paddle2Y = in.readInt();
+        s.prevPaddle1Y = in.readInt();
+        s.prevPaddle2Y = in.readInt();
+        s.aiPaddleY = in.readDouble();
+        s.aiCurrentVelocity = in.readDouble();
+        s.score1 = in.readInt();
+        s.score2 = in.readInt();
+        s.rallies = in.readInt();
+        s.currentRallyHits = in.readInt();
+        s.consecutivePaddleBounces = in.readInt();
+        s.doublePointsActive = in.readBoolean();
+        s.unlimitedSpeedActive = in.readBoolean();
+        s.playerWinStreak = in.readInt();
+        s.aiWinStreak = in.readInt();
+        s.lastPointWinner = in.readInt();
+        s.consecutiveMissedShots = in.readInt();
+        s.averageRallyLength = in.readDouble();
+        s.tick = in.readLong();
+        s.timeMillis = in.readLong();
+        s.tickRate = in.readInt();
+        s.gameStartTime = in.readLong();
+        s.currentRallyStartTime = in.readLong();
+        s.lastAIUpdate = in.readLong();
+        s.lastBallDirectionChange = in.readLong();
+    }
+
+    // 7 bits per byte, high bit set when more bytes follow (most deltas fit in one or two bytes)
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,89 @@
+package game;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Plays a MatchRecording again on PongSimulation, headless and as fast as the CPU allows.
+ * Used to reproduce a bug tick by tick (fast-forward to a tick and look at the state) and to check
+ * that a physics change did not alter recorded matches (the end checksum must still match).
+ *
+ * Usage: java -cp bin game.MatchReplayer match.ppr [tick]
+ */
+public class MatchReplayer {
+
+    private final PongSimulation simulation = new PongSimulation();
+
+    /**
+     * Re-simulate the whole recorded match
+     */
+    public SimulationState replay(MatchRecording recording) {
+        return replayTo(recording, recording.endTick);
+    }
+
+    /**
+     * Re-simulate the recording up to (not including) the given tick and return the state at that point
+     */
+    public SimulationState replayTo(MatchRecording recording, long targetTick) {
+        SimulationState s = new SimulationState();
+        MatchRecording.copyState(recording.start, s);
+        MatchRecording.applyInput(s, 0);
+        s.random = new Random(recording.seed);
+
+        // First serve, same as PongGame.startNewGame: it happens before the game switches to the match mode
+        s.timeMillis = PongSimulation.tickTime(s);
+        simulation.resetBall(s);
+        s.singlePlayer = recording.singlePlayer;
+
+        int nextEvent = 0;
+        while (s.tick < targetTick) {
+            while (nextEvent < recording.eventCount && recording.eventTicks[nextEvent] <= s.tick) {
+                MatchRecording.applyInput(s, recording.eventInputs[nextEvent]);
+                nextEvent++;
+            }
+            simulation.advance(s);
+        }
+        return s;
+    }
+
+    /**
+     * Replay and compare with the result stored in the recording
+     */
+    public boolean verify(MatchRecording recording) {
+        SimulationState end = replay(recording);
+        return end.score1 == recording.finalScore1 && end.score2 == recording.finalScore2
+                && MatchRecording.checksum(end) == recording.finalChecksum;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: MatchReplayer <recording.ppr> [tick]");
+            return;
+        }
+        MatchRecording recording = MatchRecording.load(new File(args[0]));
+        MatchReplayer replayer = new MatchReplayer();
+        System.out.println("[Replay] Seed " + recording.getSeed() + ", " + recording.getEndTick() + " ticks, "
+                + recording.getEventCount() + " input events");
+
+        if (args.length > 1) {
+            long tick = Long.parseLong(args[1]);
+            SimulationState s = replayer.replayTo(recording, tick);
+            System.out.printf("[Replay] Tick %d: score %d-%d, ball (%.2f, %.2f) v (%.3f, %.3f), paddles %d / %.2f, bounces %d%n",
+                    s.tick, s.score1, s.score2, s.ballX, s.ballY, s.ballVX, s.ballVY,
+                    s.paddle1Y, s.aiPaddleY, s.consecutivePaddleBounces);
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        boolean matches = replayer.verify(recording);
+        double seconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        System.out.printf("[Replay] Final score %d-%d, %s, %.0f ticks/s%n",
+                recording.finalScore1, recording.finalScore2,
+                matches ? "identical to the recording" : "DIFFERENT from the recording",
+                recording.getEndTick() / Math.max(seconds, 1e-9));
+        if (!matches) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package game;
+
+import java.awt.*;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Themed paddles ready to blit: the theme image already scaled to the paddle size and cut to its rounded
+ * corners (transparent outside), in a compatible translucent image.
+ * The paddles used to be drawn with a rounded-rectangle clip and a scaled drawImage every frame; the clip
+ * shape forces the slow software path for the whole image. Here that work happens once per theme,
+ * size, corner radius and tint, with the same clip and scaling, so the sprite has the same pixels.
+ * Keyed by theme image instance, paddle size, corner radius, tint and interpolation hint; the
+ * interpolation is part of the key because it changes how the theme is scaled. Call clear() on resize.
+ */
+public class PaddleSprites {
+
+    private static final int SLOTS = 1 << 7;
+
+    private Sprite[] sprites = new Sprite[SLOTS];
+    private long rebuildCount = 0;
+
+    /**
+     * Same as clipping g to a rounded rectangle and drawing the theme scaled into it
+     */
+    public void draw(Graphics2D g, Image theme, int x, int y, int width, int height, int cornerRadius) {
+        draw(g, theme, x, y, width, height, cornerRadius, null);
+    }
+
+    /**
+     * Same, with a translucent tint filled over the paddle (e.g. the white overlay of a selected paddle)
+     */
+    public void draw(Graphics2D g, Image theme, int x, int y, int width, int height, int cornerRadius, Color tint) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        Object interpolation = g.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        int tintArgb = tint != null ? tint.getRGB() : 0;
+
+        int hash = System.identityHashCode(theme);
+        hash = hash * 31 + width;
+        hash = hash * 31 + height;
+        hash = hash * 31 + cornerRadius;
+        hash = hash * 31 + tintArgb;
+        hash = hash * 31 + System.identityHashCode(interpolation);
+        int slot = ColorCache.slot(hash, SLOTS);
+
+        Sprite[] table = sprites;
+        Sprite sprite = table[slot];
+        if (sprite == null || !sprite.matches(theme, width, height, cornerRadius, tintArgb, interpolation)) {
+            sprite = new Sprite(theme, width, height, cornerRadius, tintArgb, interpolation,
+                    rasterize(g.getDeviceConfiguration(), theme, width, height, cornerRadius, tint, interpolation));
+            table[slot] = sprite;
+        }
+        g.drawImage(sprite.image, x, y, null);
+    }
+
+    public void clear() {
+        sprites = new Sprite[SLOTS];
+    }
+
+    public long getRebuildCount() {
+        return rebuildCount;
+    }
+
+    private BufferedImage rasterize(GraphicsConfiguration gc, Image theme, int width, int height, int cornerRadius,
+                                    Color tint, Object interpolation) {
+        BufferedImage image = gc != null
+            ? gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+            : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D ig = image.createGraphics();
+        try {
+            if (interpolation != null) {
+                ig.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            }
+            ig.setClip(new RoundRectangle2D.Float(0, 0, width, height, cornerRadius, cornerRadius));
+            ig.drawImage(theme, 0, 0, width, height, null);
+            if (tint != null) {
+                ig.setColor(tint);
+                ig.fillRect(0, 0, width, height);
+            }
+        } finally {
+            ig.dispose();
+        }
+        rebuildCount++;
+        return image;
+    }
+
+    private static final class Sprite {
+        final Image theme;
+        final int width;
+        final int height;
+        final int cornerRadius;
+        final int tintArgb;
+        final Object interpolation;
+        final BufferedImage image;
+
+        Sprite(Image theme, int width, int height, int cornerRadius, int tintArgb, Object interpolation,
+               BufferedImage image) {
+            this.theme = theme;
+            this.width = width;
+            this.height = height;
+            this.cornerRadius = cornerRadius;
+            this.tintArgb = tintArgb;
+            this.interpolation = interpolation;
+            this.image = image;
+        }
+
+        boolean matches(Image theme, int width, int height, int cornerRadius, int tintArgb, Object interpolation) {
+            return this.theme == theme && this.width == width && this.height == height
+                    && this.cornerRadius == cornerRadius && this.tintArgb == tintArgb
+                    && this.interpolation == interpolation;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package game;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * Pre-rendered particle dots: one small image per color, diameter and antialiasing, rasterized once with
+ * the same fillOval the particles used to run every frame. A particle is then a single image blit.
+ * The sprites are opaque in the center, the particle alpha (fade, glow alpha) is applied with one of the
+ * 256 cached SrcOver composites, so a fading particle keeps using the same sprite.
+ * Particles only come in a few colors and sizes, so the (color, diameter, antialias, scale) keys fit in a
+ * small fixed table; a key landing on an occupied slot simply evicts it.
+ * The scale is the one of the InternalResolution buffer: there the dots are rasterized at the buffer scale
+ * and blitted in device pixels.
+ */
+public final class ParticleSprites {
+
+    private static final int SLOTS = 1 << 9;
+
+    private static final Sprite[] sprites = new Sprite[SLOTS];
+    private static final AlphaComposite[] composites = new AlphaComposite[256];
+
+    static {
+        for (int alpha = 0; alpha < composites.length; alpha++) {
+            composites[alpha] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha / 255f);
+        }
+    }
+
+    private ParticleSprites() {
+    }
+
+    /**
+     * Dot of the given diameter, same pixels as fillOval(0, 0, diameter, diameter) in the opaque color rgb
+     */
+    public static BufferedImage dot(int rgb, int diameter, boolean antialias) {
+        return dot(rgb, diameter, antialias, 1.0, 1.0);
+    }
+
+    /**
+     * Same dot as fillOval(0, 0, diameter, diameter) drawn through a scale(scaleX, scaleY), in device pixels
+     */
+    public static BufferedImage dot(int rgb, int diameter, boolean antialias, double scaleX, double scaleY) {
+        rgb |= 0xFF000000;
+        int hash = rgb;
+        hash = hash * 31 + diameter;
+        hash = hash * 2 + (antialias ? 1 : 0);
+        hash = hash * 31 + Double.hashCode(scaleX);
+        hash = hash * 31 + Double.hashCode(scaleY);
+        int slot = ColorCache.slot(hash, SLOTS);
+
+        Sprite sprite = sprites[slot];
+        if (sprite == null || sprite.rgb != rgb || sprite.diameter != diameter || sprite.antialias != antialias
+                || sprite.scaleX != scaleX || sprite.scaleY != scaleY) {
+            sprite = new Sprite(rgb, diameter, antialias, scaleX, scaleY, rasterize(rgb, diameter, antialias, scaleX, scaleY));
+            sprites[slot] = sprite;
+        }
+        return sprite.image;
+    }
+
+    /**
+     * Shared SrcOver composite for an alpha of 0-255
+     */
+    public static AlphaComposite composite(int alpha) {
+        return composites[alpha & 0xFF];
+    }
+
+    /**
+     * True if a blit through these sprites looks the same as fillOval on g:
+     * plain SrcOver without extra alpha, and no rotation (a scale is fine, see dot(..., scaleX, scaleY))
+     */
+    public static boolean canBlit(Graphics2D g) {
+        Composite composite = g.getComposite();
+        if (!(composite instanceof AlphaComposite)) {
+            return false;
+        }
+        AlphaComposite alphaComposite = (AlphaComposite) composite;
+        return alphaComposite.getRule() == AlphaComposite.SRC_OVER && alphaComposite.getAlpha() == 1.0f
+                && InternalResolution.isScaleTranslate(g.getTransform());
+    }
+
+    private static BufferedImage rasterize(int rgb, int diameter, boolean antialias, double scaleX, double scaleY) {
+        int width = Math.max(1, (int) Math.ceil(diameter * scaleX));
+        int height = Math.max(1, (int) Math.ceil(diameter * scaleY));
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                    antialias ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+            if (scaleX != 1.0 || scaleY != 1.0) {
+                g.scale(scaleX, scaleY);
+            }
+            g.setColor(new Color(rgb, true));
+            g.fillOval(0, 0, diameter, diameter);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    private static final class Sprite {
+        final int rgb;
+        final int diameter;
+        final boolean antialias;
+        final double scaleX;
+        final double scaleY;
+        final BufferedImage image;
+
+        Sprite(int rgb, int diameter, boolean antialias, double scaleX, double scaleY, BufferedImage image) {
+            this.rgb = rgb;
+            this.diameter = diameter;
+            this.antialias = antialias;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            this.image = image;
+        }
+    }
+}
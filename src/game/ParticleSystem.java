@@ -0,0 +1,291 @@
+package game;
+
+import static context.GameContext.*;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.util.Arrays;
+
+/**
+ * Particles for the visual effects, stored as parallel primitive arrays instead of one object each.
+ * The update is a single loop over the arrays and a dead particle is removed by moving the last one
+ * into its slot, so nothing is allocated or shifted while particles come and go.
+ * Drawing is batched by color: the particles are sorted by their (faded) color, and each particle is
+ * a blit of a pre-rendered dot from {@link ParticleSprites} with the alpha set once per run.
+ *
+ * Two kinds of particles, same behavior as the old Particle objects:
+ * - temporary: slow down a little every tick and fade out over their life
+ * - infinite: background particles of the menus, bounce on the borders at constant speed, drawn with a glow
+ */
+public class ParticleSystem {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    // Sort key layout: pass (core/glow) above the packed color, above the particle index
+    private static final int INDEX_BITS = 20;
+    private static final long GLOW_PASS = 1L << (INDEX_BITS + 32);
+
+    private final int maxParticles;
+    private int count;
+
+    private double[] x, y, prevX, prevY, vx, vy;
+    private int[] life, maxLife;
+    private int[] argb;
+    private boolean[] infinite;
+
+    // Draw scratch space (render thread only)
+    private long[] drawKeys = new long[0];
+    private final AffineTransform deviceTransform = new AffineTransform();
+
+    /**
+     * @param maxParticles particle budget, spawns beyond it are dropped
+     */
+    public ParticleSystem(int maxParticles) {
+        if (maxParticles <= 0 || maxParticles > (1 << INDEX_BITS)) {
+            throw new IllegalArgumentException("maxParticles out of range: " + maxParticles);
+        }
+        this.maxParticles = maxParticles;
+        allocate(Math.min(INITIAL_CAPACITY, maxParticles));
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getMaxParticles() {
+        return maxParticles;
+    }
+
+    // How many more particles fit in the budget
+    public int remaining() {
+        return maxParticles - count;
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Add a temporary particle that fades out over life ticks.
+     * @return false if the budget is full (the particle is dropped)
+     */
+    public boolean spawn(double px, double py, double pvx, double pvy, int plife, Color color) {
+        return add(px, py, pvx, pvy, plife, color.getRGB(), false);
+    }
+
+    /**
+     * Add a background particle that never dies and bounces on the borders
+     */
+    public boolean spawnInfinite(double px, double py, double pvx, double pvy, Color color) {
+        return add(px, py, pvx, pvy, 0, color.getRGB(), true);
+    }
+
+    private boolean add(double px, double py, double pvx, double pvy, int plife, int color, boolean pinfinite) {
+        if (count == maxParticles) {
+            return false;
+        }
+        if (count == x.length) {
+            grow(Math.min(maxParticles, count * 2));
+        }
+        int i = count++;
+        x[i] = prevX[i] = px;
+        y[i] = prevY[i] = py;
+        vx[i] = pvx;
+        vy[i] = pvy;
+        life[i] = maxLife[i] = plife;
+        argb[i] = color;
+        infinite[i] = pinfinite;
+        return true;
+    }
+
+    // One logic tick for every particle, dead ones are swap-removed
+    public void update() {
+        int i = 0;
+        while (i < count) {
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            x[i] += vx[i];
+            y[i] += vy[i];
+
+            if (infinite[i]) {
+                // Rimbalza sui bordi per particelle infinite
+                if (x[i] <= 0 || x[i] >= BOARD_HEIGHT) {
+                    vx[i] = -vx[i];
+                    x[i] = Math.max(0, Math.min(BOARD_WIDTH, x[i]));
+                }
+                if (y[i] <= 0 || y[i] >= BOARD_HEIGHT) {
+                    vy[i] = -vy[i];
+                    y[i] = Math.max(0, Math.min(BOARD_HEIGHT, y[i]));
+                }
+                // Mantieni velocità costante per particelle infinite
+                double speed = Math.sqrt(vx[i] * vx[i] + vy[i] * vy[i]);
+                if (speed > 0) {
+                    double targetSpeed = 1.5;
+                    vx[i] = (vx[i] / speed) * targetSpeed;
+                    vy[i] = (vy[i] / speed) * targetSpeed;
+                }
+                i++;
+            } else {
+                // Comportamento normale per particelle temporanee
+                vx[i] *= 0.98;
+                vy[i] *= 0.98;
+                if (--life[i] <= 0) {
+                    // The last particle takes this slot and is updated next
+                    moveLast(i);
+                } else {
+                    i++;
+                }
+            }
+        }
+    }
+
+    // Replace particle i with the last one
+    private void moveLast(int i) {
+        int last = --count;
+        if (i == last) {
+            return;
+        }
+        x[i] = x[last];
+        y[i] = y[last];
+        prevX[i] = prevX[last];
+        prevY[i] = prevY[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        life[i] = life[last];
+        maxLife[i] = maxLife[last];
+        argb[i] = argb[last];
+        infinite[i] = infinite[last];
+    }
+
+    /**
+     * Make this system an exact copy of source (used for the render snapshot)
+     */
+    public void copyFrom(ParticleSystem source) {
+        int n = source.count;
+        if (n > x.length) {
+            grow(Math.min(maxParticles, Math.max(n, x.length * 2)));
+        }
+        n = Math.min(n, x.length);
+        System.arraycopy(source.x, 0, x, 0, n);
+        System.arraycopy(source.y, 0, y, 0, n);
+        System.arraycopy(source.prevX, 0, prevX, 0, n);
+        System.arraycopy(source.prevY, 0, prevY, 0, n);
+        System.arraycopy(source.vx, 0, vx, 0, n);
+        System.arraycopy(source.vy, 0, vy, 0, n);
+        System.arraycopy(source.life, 0, life, 0, n);
+        System.arraycopy(source.maxLife, 0, maxLife, 0, n);
+        System.arraycopy(source.argb, 0, argb, 0, n);
+        System.arraycopy(source.infinite, 0, infinite, 0, n);
+        count = n;
+    }
+
+    public void draw(Graphics2D g) {
+        draw(g, 1.0);
+    }
+
+    /**
+     * Draw every particle at its position blended between the previous and the current tick
+     * (0.0 = previous, 1.0 = current).
+     * All cores first, then the glows of the infinite particles, each pass grouped by color.
+     * Falls back to fillOval when the sprites would not look the same (see ParticleSprites.canBlit).
+     */
+    public void draw(Graphics2D g, double interpolation) {
+        if (count == 0) {
+            return;
+        }
+        int keyCount = 0;
+        long[] keys = drawKeys;
+        if (keys.length < count * 2) {
+            keys = drawKeys = new long[Math.max(count * 2, keys.length * 2)];
+        }
+        for (int i = 0; i < count; i++) {
+            int color;
+            if (infinite[i]) {
+                // Particelle infinite sempre visibili, con glow
+                color = argb[i];
+                keys[keyCount++] = GLOW_PASS | ((long) ((50 << 24) | (color & 0x00FFFFFF)) << INDEX_BITS) | i;
+            } else {
+                // Particelle temporanee con fade (same alpha steps as ColorCache.fade)
+                double fraction = Math.max(0.0, Math.min(1.0, (float) life[i] / maxLife[i]));
+                int level = (int) (fraction * (argb[i] >>> 24) * ColorCache.ALPHA_LEVELS / 255.0 + 0.5);
+                color = ((level * 255 / ColorCache.ALPHA_LEVELS) << 24) | (argb[i] & 0x00FFFFFF);
+            }
+            keys[keyCount++] = ((color & 0xFFFFFFFFL) << INDEX_BITS) | i;
+        }
+        Arrays.sort(keys, 0, keyCount);
+
+        boolean blit = ParticleSprites.canBlit(g);
+        boolean antialias = g.getRenderingHint(RenderingHints.KEY_ANTIALIASING) == RenderingHints.VALUE_ANTIALIAS_ON;
+        Composite composite = g.getComposite();
+        // Internal resolution buffer: sprites at its scale, blitted in device pixels
+        AffineTransform transform = g.getTransform();
+        boolean scaled = blit && InternalResolution.isScaled(transform);
+        double scaleX = scaled ? transform.getScaleX() : 1.0;
+        double scaleY = scaled ? transform.getScaleY() : 1.0;
+        if (scaled) {
+            g.setTransform(InternalResolution.deviceTranslation(transform, deviceTransform));
+        }
+
+        long currentColor = -1;
+        Image sprite = null;
+        for (int k = 0; k < keyCount; k++) {
+            long key = keys[k];
+            long color = key >>> INDEX_BITS;
+            int radius = (key & GLOW_PASS) != 0 ? 4 : 2;
+            if (color != currentColor) {
+                currentColor = color;
+                if (blit) {
+                    sprite = ParticleSprites.dot((int) color, radius * 2, antialias, scaleX, scaleY);
+                    g.setComposite(ParticleSprites.composite((int) (color >>> 24)));
+                } else {
+                    g.setColor(ColorCache.get((int) color));
+                }
+            }
+            if (blit && (color & 0xFF000000L) == 0) {
+                continue; // Completely faded
+            }
+            int i = (int) (key & ((1 << INDEX_BITS) - 1));
+            int drawX = (int) (prevX[i] + (x[i] - prevX[i]) * interpolation);
+            int drawY = (int) (prevY[i] + (y[i] - prevY[i]) * interpolation);
+            if (scaled) {
+                g.drawImage(sprite, (int) Math.round((drawX - radius) * scaleX), (int) Math.round((drawY - radius) * scaleY), null);
+            } else if (blit) {
+                g.drawImage(sprite, drawX - radius, drawY - radius, null);
+            } else {
+                g.fillOval(drawX - radius, drawY - radius, radius * 2, radius * 2);
+            }
+        }
+        if (blit) {
+            g.setComposite(composite);
+        }
+        if (scaled) {
+            g.setTransform(transform);
+        }
+    }
+
+    private void allocate(int capacity) {
+        x = new double[capacity];
+        y = new double[capacity];
+        prevX = new double[capacity];
+        prevY = new double[capacity];
+        vx = new double[capacity];
+        vy = new double[capacity];
+        life = new int[capacity];
+        maxLife = new int[capacity];
+        argb = new int[capacity];
+        infinite = new boolean[capacity];
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        life = Arrays.copyOf(life, capacity);
+        maxLife = Arrays.copyOf(maxLife, capacity);
+        argb = Arrays.copyOf(argb, capacity);
+        infinite = Arrays.copyOf(infinite, capacity);
+    }
+}
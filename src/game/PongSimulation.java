@@ -0,0 +1,1090 @@
+package game;
+
+/**
+ * Classic mode physics and AI without any AWT/Swing dependency.
+ * One call to {@link #step(SimulationState)} is one logic tick: paddles, AI, ball, collisions and scoring.
+ * The interactive game copies its fields into a {@link SimulationState}, steps it and plays sounds/particles
+ * for the returned events; tools and benchmarks can create a state and run thousands of matches headless.
+ */
+public class PongSimulation {
+
+    // Events returned by step() (bit flags, several can happen in the same tick)
+    public static final int EVENT_WALL_HIT = 1;
+    public static final int EVENT_LEFT_PADDLE_HIT = 1 << 1;
+    public static final int EVENT_RIGHT_PADDLE_HIT = 1 << 2;
+    public static final int EVENT_RIGHT_SCORED = 1 << 3; // Ball went out on the left
+    public static final int EVENT_LEFT_SCORED = 1 << 4;  // Ball went out on the right
+    public static final int EVENT_POINT = EVENT_RIGHT_SCORED | EVENT_LEFT_SCORED;
+
+    // Physics constants
+    private static final double PADDLE_SPEED_TRANSFER = 0.3;
+    private static final double BASE_BALL_SPEED = 3.0;
+
+    // Adaptive AI statistics kept (last rallies, last ball speeds)
+    public static final int RALLY_HISTORY = 15;
+    public static final int BALL_SPEED_HISTORY = 20;
+
+    /**
+     * Advance the match by one tick. The ball is not put back in the center after a point,
+     * the caller does it with {@link #resetBall(SimulationState)} once it has handled the point.
+     * @return the EVENT_* flags of what happened
+     */
+    public int step(SimulationState s) {
+        int events = 0;
+
+        // Calculate scaled paddle speed based on screen height and settings
+        double baseSpeed = 4.0; // Lenta
+        if (s.paddleSpeedSetting == 1) baseSpeed = 6.0; // Media
+        else if (s.paddleSpeedSetting == 2) baseSpeed = 8.0; // Veloce
+
+        int paddleSpeed = Math.max(3, (int)(baseSpeed * s.scaleY)); // Minimum 3px, scaled with screen height
+
+        // Store previous paddle positions for physics calculations
+        s.prevPaddle1Y = s.paddle1Y;
+        s.prevPaddle2Y = s.paddle2Y;
+
+        // Move paddles
+        if (s.leftUp && s.paddle1Y > 0) {
+            s.paddle1Y -= paddleSpeed;
+        }
+        if (s.leftDown && s.paddle1Y < s.boardHeight - s.paddleHeight) {
+            s.paddle1Y += paddleSpeed;
+        }
+
+        // AI or human player 2
+        if (s.singlePlayer) {
+            updateAI(s);
+        } else {
+            if (s.rightUp && s.paddle2Y > 0) {
+                s.paddle2Y -= paddleSpeed;
+            }
+            if (s.rightDown && s.paddle2Y < s.boardHeight - s.paddleHeight) {
+                s.paddle2Y += paddleSpeed;
+            }
+        }
+
+        // Move ball (velocities are already scaled to the board)
+        s.ballX += s.ballVX;
+        s.ballY += s.ballVY;
+
+        // Ball collision with top and bottom walls
+        if (s.ballY <= 0 || s.ballY >= s.boardHeight - s.ballSize) {
+            s.ballVY = -s.ballVY;
+            // Ensure ball stays within bounds
+            if (s.ballY <= 0) s.ballY = 0;
+            if (s.ballY >= s.boardHeight - s.ballSize) s.ballY = s.boardHeight - s.ballSize;
+            s.lastBallDirectionChange = s.timeMillis; // Track direction change for AI
+
+            // Reset fire ball system on wall hit
+            resetFireBall(s);
+            events |= EVENT_WALL_HIT;
+        }
+
+        // Ball collision with paddles (scaled positions)
+        int leftPaddleX = (int)(20 * s.scaleX);
+        int rightPaddleX = s.boardWidth - leftPaddleX - s.paddleWidth;
+
+        if (s.ballX <= leftPaddleX + s.paddleWidth && s.ballX + s.ballSize >= leftPaddleX && s.ballY + s.ballSize >= s.paddle1Y && s.ballY <= s.paddle1Y + s.paddleHeight && s.ballVX < 0) {
+            applyPaddlePhysics(s, 1, leftPaddleX + s.paddleWidth, s.paddle1Y);
+            s.rallies++;
+            incrementFireBall(s);
+            events |= EVENT_LEFT_PADDLE_HIT;
+        }
+
+        // Use smooth AI position for collision detection in single player mode
+        int effectivePaddle2Y = s.singlePlayer ? (int)s.aiPaddleY : s.paddle2Y;
+        if (s.ballX + s.ballSize >= rightPaddleX && s.ballX <= rightPaddleX + s.paddleWidth && s.ballY + s.ballSize >= effectivePaddle2Y && s.ballY <= effectivePaddle2Y + s.paddleHeight && s.ballVX > 0) {
+            applyPaddlePhysics(s, 2, rightPaddleX, effectivePaddle2Y);
+            s.rallies++;
+            incrementFireBall(s);
+            events |= EVENT_RIGHT_PADDLE_HIT;
+        }
+
+        // Ball goes off screen - scoring (fire ball bonus counts before the system is reset)
+        if (s.ballX < 0) {
+            s.score2 += s.doublePointsActive ? 2 : 1;
+
+            // Update AI streak tracking
+            if (s.lastPointWinner == 2) {
+                s.aiWinStreak++;
+            } else {
+                s.aiWinStreak = 1;
+                s.playerWinStreak = 0;
+            }
+            s.lastPointWinner = 2;
+
+            // Track player miss for consistency factor
+            s.consecutiveMissedShots++;
+            events |= EVENT_RIGHT_SCORED;
+        }
+        if (s.ballX > s.boardWidth) {
+            s.score1 += s.doublePointsActive ? 2 : 1;
+
+            // Update player streak tracking
+            if (s.lastPointWinner == 1) {
+                s.playerWinStreak++;
+            } else {
+                s.playerWinStreak = 1;
+                s.aiWinStreak = 0;
+            }
+            s.lastPointWinner = 1;
+
+            // Reset missed shots counter when player scores
+            s.consecutiveMissedShots = 0;
+            events |= EVENT_LEFT_SCORED;
+        }
+
+        s.tick++;
+        return events;
+    }
+
+    /**
+     * Game clock of a deterministic match, derived from the tick counter only.
+     * Starts one tick in so the "0 = not started yet" checks on timestamps keep working.
+     * Computed from the tick count each time, so it never drifts from real time (60 ticks are exactly 1000 ms).
+     */
+    public static long tickTime(SimulationState s) {
+        return (s.tick + 1) * 1000 / s.tickRate;
+    }
+
+    /**
+     * Run a match headless for a number of ticks on the tick clock, serving a new ball after every point
+     * (same order as the interactive game: fire ball reset, then the new serve).
+     * @return number of points scored
+     */
+    public int run(SimulationState s, long ticks) {
+        int points = 0;
+        for (long i = 0; i < ticks; i++) {
+            if (advance(s)) {
+                points++;
+            }
+        }
+        return points;
+    }
+
+    /**
+     * One tick on the tick clock, including the new serve after a point
+     * @return true if a point was scored
+     */
+    public boolean advance(SimulationState s) {
+        s.timeMillis = tickTime(s);
+        if ((step(s) & EVENT_POINT) != 0) {
+            s.timeMillis = tickTime(s); // The serve belongs to the next tick, like in the interactive game
+            resetFireBall(s);
+            resetBall(s);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Put the ball back in the center with a new serve and close the rally statistics
+     */
+    public void resetBall(SimulationState s) {
+        s.ballX = s.boardWidth / 2 - s.ballSize / 2;
+        s.ballY = s.boardHeight / 2 - s.ballSize / 2;
+
+        // Track rally statistics for adaptive AI
+        if (s.currentRallyStartTime > 0) {
+            long rallyDuration = s.timeMillis - s.currentRallyStartTime;
+            // Only the recent rallies are kept (RALLY_HISTORY)
+            s.rallyDurations.add(rallyDuration);
+            s.rallyHitCounts.add(s.currentRallyHits);
+
+            // Update average rally performance
+            s.averageRallyLength = s.rallyHitCounts.average();
+        }
+
+        // Always start with base speed, scaled for window size
+        double initialSpeed = BASE_BALL_SPEED * Math.min(s.scaleX, s.scaleY);
+
+        // First few balls in single player should favor the player (go left)
+        if (s.singlePlayer && (s.score1 + s.score2) < 3) {
+            s.ballVX = -initialSpeed; // Always go toward player first
+        } else {
+            s.ballVX = (s.random.nextDouble() > 0.5) ? initialSpeed : -initialSpeed;
+        }
+
+        s.ballVY = (s.random.nextDouble() * initialSpeed * 2 - initialSpeed);
+        if (Math.abs(s.ballVY) < initialSpeed/4) s.ballVY = initialSpeed/2;
+
+        // Set max ball speed for physics calculations (what the ball can reach)
+        s.maxBallSpeed = s.ballSpeedSetting; // Range 5-100
+
+        // Reset rally hit counter and start new rally tracking
+        s.currentRallyHits = 0;
+        s.currentRallyStartTime = s.timeMillis;
+    }
+
+    private void incrementFireBall(SimulationState s) {
+        s.consecutivePaddleBounces++;
+
+        // Activate double points at 15+ consecutive bounces
+        if (s.consecutivePaddleBounces >= 15) {
+            s.doublePointsActive = true;
+        }
+
+        // Activate unlimited speed at 20+ consecutive bounces
+        if (s.consecutivePaddleBounces >= 20) {
+            s.unlimitedSpeedActive = true;
+        }
+    }
+
+    public void resetFireBall(SimulationState s) {
+        s.consecutivePaddleBounces = 0;
+        s.doublePointsActive = false;
+        s.unlimitedSpeedActive = false;
+    }
+
+    private void updateAI(SimulationState s) {
+        long currentTime = s.timeMillis;
+        double deltaTime = (currentTime - s.lastAIUpdate) / 1000.0;
+        if (s.lastAIUpdate == 0) deltaTime = 0.016; // First frame
+        s.lastAIUpdate = currentTime;
+        
+        // AI Difficulty Levels with target win rates for player (increased difficulty):
+        // 0=Facile (85%), 1=Normale (40%), 2=Difficile (18%), 3=Esperto (12%), 4=Impossibile (5%)
+        
+        switch (s.aiDifficultySetting) {
+            case 0: // FACILE - Player wins 85%
+                updateAI_Easy(s, deltaTime);
+                break;
+            case 1: // NORMALE - Progressive AI (starts easy, gets harder)  
+                updateAI_Normal(s, deltaTime);
+                break;
+            case 2: // DIFFICILE - Player wins 18%
+                updateAI_Hard(s, deltaTime);
+                break;
+            case 3: // ESPERTO - Player wins 12%
+                updateAI_Expert(s, deltaTime);
+                break;
+            case 4: // IMPOSSIBILE - Player wins 5%
+                updateAI_Perfect(s, deltaTime);
+                break;
+            default:
+                updateAI_Normal(s, deltaTime);
+        }
+        
+        // Keep paddle within bounds
+        s.aiPaddleY = Math.max(0, Math.min(s.boardHeight - s.paddleHeight, s.aiPaddleY));
+        s.paddle2Y = (int)s.aiPaddleY;
+    }
+    
+    private double applyMovementErrors(SimulationState s, double velocity, int difficulty) {
+        // Apply realistic movement errors based on difficulty
+        switch (difficulty) {
+            case 0: // FACILE - Many movement errors
+                // 30% chance of hesitation (reduced speed)
+                if (s.random.nextDouble() < 0.3) {
+                    velocity *= 0.6; // Hesitate
+                }
+                // 15% chance of wrong direction briefly
+                if (s.random.nextDouble() < 0.15) {
+                    velocity *= -0.2; // Brief wrong direction
+                }
+                break;
+                
+            case 1: // NORMALE - Some movement errors  
+                // 20% chance of hesitation
+                if (s.random.nextDouble() < 0.2) {
+                    velocity *= 0.75;
+                }
+                // 8% chance of overcorrection
+                if (s.random.nextDouble() < 0.08) {
+                    velocity *= 1.3; // Overcorrect then slow down next frame
+                }
+                break;
+                
+            case 2: // DIFFICILE - Very few movement errors
+                // 6% chance of slight hesitation (reduced from 10%)
+                if (s.random.nextDouble() < 0.06) {
+                    velocity *= 0.88; // Less hesitation (was 0.85)
+                }
+                break;
+                
+            case 3: // ESPERTO - Minimal movement errors
+                // 3% chance of minor hesitation (reduced from 5%)
+                if (s.random.nextDouble() < 0.03) {
+                    velocity *= 0.93; // Minimal hesitation (was 0.9)
+                }
+                break;
+                
+            case 4: // IMPOSSIBILE - Almost no movement errors
+                // 2% chance of tiny hesitation
+                if (s.random.nextDouble() < 0.02) {
+                    velocity *= 0.95;
+                }
+                break;
+        }
+        
+        return velocity;
+    }
+    
+    private double applyProgressiveMovementErrors(SimulationState s, double velocity, double progressFactor) {
+        // BALANCED MOVEMENT ERRORS (Research: fewer errors, more strategic)
+        double hesitationChance = Math.max(0.1, 0.25 - (progressFactor * 0.15)); // 25% to 10% hesitation
+        double hesitationStrength = Math.max(0.7, 0.75 + (progressFactor * 0.2)); // Less severe hesitation
+        double overcorrectionChance = Math.max(0.05, 0.12 - (progressFactor * 0.07)); // 12% to 5% overcorrection
+        double overcorrectionStrength = Math.min(1.6, 1.2 + (progressFactor * 0.3)); // More aggressive overcorrection
+        
+        // Apply hesitation (reduced speed) - less frequent but still present
+        if (s.random.nextDouble() < hesitationChance) {
+            velocity *= hesitationStrength;
+        }
+        
+        // Apply overcorrection - can make AI overshoot
+        if (s.random.nextDouble() < overcorrectionChance) {
+            velocity *= overcorrectionStrength;
+        }
+        
+        return velocity;
+    }
+    
+    // ADVANCED AI ADAPTATION METHODS (Based on 2024 Research)
+    
+    private double calculateAdvancedPlayerPerformance(SimulationState s, int playerScore, int aiScore, int totalPoints) {
+        if (totalPoints == 0) return 0.0;
+        
+        double winRate = (double) playerScore / totalPoints;
+        int scoreDifference = playerScore - aiScore;
+        
+        // Score dominance factor (exponential scaling for big leads)
+        double dominanceBonus = 0.0;
+        if (scoreDifference >= 5) dominanceBonus = 1.0;
+        else if (scoreDifference >= 4) dominanceBonus = 0.8;
+        else if (scoreDifference >= 3) dominanceBonus = 0.6;
+        else if (scoreDifference >= 2) dominanceBonus = 0.4;
+        else if (scoreDifference >= 1) dominanceBonus = 0.2;
+        
+        // Win rate bonus (MIT research: >70% win rate indicates mastery)
+        double winRateBonus = Math.max(0.0, (winRate - 0.5) * 2.0); // 0.0 at 50%, 1.0 at 100%
+        
+        // Early game bonus (first few points are crucial indicators)
+        double earlyGameMultiplier = totalPoints <= 4 ? 1.5 : 1.0;
+        
+        return Math.min(1.0, (dominanceBonus * 0.6 + winRateBonus * 0.4) * earlyGameMultiplier);
+    }
+    
+    private double calculateAdvancedStreakFactor(SimulationState s) {
+        // Enhanced streak calculation with momentum consideration
+        double streakPower = 0.0;
+        
+        if (s.playerWinStreak >= 5) streakPower = 1.0;      // Unstoppable
+        else if (s.playerWinStreak >= 4) streakPower = 0.85; // Dominating
+        else if (s.playerWinStreak >= 3) streakPower = 0.6;  // Hot streak
+        else if (s.playerWinStreak >= 2) streakPower = 0.35; // Building momentum
+        else if (s.playerWinStreak >= 1) streakPower = 0.15; // Just won
+        
+        // AI comeback mechanism (DeepMind approach)
+        if (s.aiWinStreak >= 4) streakPower -= 0.4; // Give player chance
+        else if (s.aiWinStreak >= 3) streakPower -= 0.25;
+        else if (s.aiWinStreak >= 2) streakPower -= 0.1;
+        
+        return Math.max(-0.4, Math.min(1.0, streakPower));
+    }
+    
+    private double calculateRallyIntensityFactor(SimulationState s) {
+        if (s.rallyHitCounts.isEmpty()) return 0.0;
+        
+        // Calculate average rally length (skill indicator)
+        double avgHits = s.rallyHitCounts.average();
+        
+        // Current rally intensity
+        double currentRallyFactor = Math.min(1.0, s.currentRallyHits / 20.0); // Max at 20 hits
+        
+        // Historical performance
+        double historicalFactor = Math.min(1.0, avgHits / 15.0); // Max at 15 avg hits
+        
+        return (currentRallyFactor * 0.6) + (historicalFactor * 0.4);
+    }
+    
+    private double calculateDominanceFactor(SimulationState s, int playerScore, int aiScore) {
+        if (playerScore + aiScore == 0) return 0.0;
+        
+        double scoreDominance = (double) playerScore / (playerScore + aiScore);
+        
+        // Exponential scaling for dominance (research: human frustration curves)
+        if (scoreDominance >= 0.8) return 1.0;      // 80%+ dominance
+        else if (scoreDominance >= 0.7) return 0.8; // 70%+ strong lead
+        else if (scoreDominance >= 0.6) return 0.5; // 60%+ moderate lead
+        else if (scoreDominance >= 0.55) return 0.2; // 55%+ slight lead
+        else return 0.0; // Even or behind
+    }
+    
+    private double calculateConsistencyFactor(SimulationState s) {
+        // Track player's shot consistency (fewer misses = higher skill)
+        int totalGamePoints = s.score1 + s.score2;
+        if (totalGamePoints == 0) return 0.0;
+        
+        double missRate = (double) s.consecutiveMissedShots / Math.max(1, totalGamePoints);
+        return Math.max(0.0, 1.0 - (missRate * 2.0)); // Invert miss rate
+    }
+    
+    private double calculatePlayerReactionTime(SimulationState s) {
+        // Estimate reaction time based on ball speed handling
+        if (s.ballSpeedHistory.isEmpty()) return 0.0;
+        
+        double avgHandledSpeed = s.ballSpeedHistory.average();
+        
+        // MIT research: humans handle 11-25 m/s, we scale to our game units
+        double maxGameSpeed = 20.0; // Our max ball speed
+        return Math.min(1.0, avgHandledSpeed / maxGameSpeed);
+    }
+    
+    private double calculateEngagementLevel(SimulationState s, int scoreDifference, int rallyHits) {
+        // Pupil dilation research: engagement peaks at medium difficulty
+        double scoreTension = Math.abs(scoreDifference) <= 2 ? 1.0 : Math.max(0.3, 1.0 - Math.abs(scoreDifference) * 0.1);
+        double rallyEngagement = Math.min(1.0, rallyHits / 12.0); // Peak engagement at 12-hit s.rallies
+        
+        return (scoreTension * 0.6) + (rallyEngagement * 0.4);
+    }
+    
+    private double calculateFrustrationLevel(SimulationState s, int aiStreak, int playerScore) {
+        // Prevent frustration by making AI easier when player is struggling
+        double frustration = 0.0;
+        
+        if (playerScore == 0 && aiStreak >= 3) frustration = 0.8; // Very frustrated
+        else if (playerScore <= 1 && aiStreak >= 4) frustration = 0.6; // Quite frustrated
+        else if (aiStreak >= 5) frustration = 0.4; // Getting frustrated
+        
+        return frustration; // This will reduce AI difficulty
+    }
+    
+    private double calculateBallSpeedAdaptation(SimulationState s) {
+        // Track how well player handles increasing ball speeds
+        double currentSpeed = Math.sqrt(s.ballVX * s.ballVX + s.ballVY * s.ballVY);
+        s.ballSpeedHistory.add(currentSpeed); // Only recent history is kept (BALL_SPEED_HISTORY)
+        
+        double avgSpeed = s.ballSpeedHistory.average();
+        return Math.min(1.0, avgSpeed / 15.0); // Normalize to our speed range
+    }
+    
+    // Research-based reaction zone system (inspired by classic arcade games)
+    private boolean isInReactionZone(SimulationState s, int difficulty) {
+        switch (difficulty) {
+            case 0: // CAUTIOUS - Only reacts when ball is very close (75% court)
+                return s.ballVX > 0 && s.ballX > s.boardWidth * 0.75;
+            case 1: // BALANCED - Reacts when ball crosses middle (50% court)  
+                return s.ballVX > 0 && s.ballX > s.boardWidth * 0.5;
+            case 2: // AGGRESSIVE - Reacts early (30% court)
+                return s.ballVX > 0 && s.ballX > s.boardWidth * 0.3;
+            case 3: // PREDICTIVE - Always watching (10% court)
+                return s.ballVX > 0 && s.ballX > s.boardWidth * 0.1;
+            case 4: // PERFECT - Always tracking
+                return s.ballVX > 0; 
+            default:
+                return s.ballVX > 0 && s.ballX > s.boardWidth * 0.5;
+        }
+    }
+    
+    // Human-based reaction delays (research: 200-400ms typical human reaction)
+    private long getReactionDelay(SimulationState s, int difficulty) {
+        switch (difficulty) {
+            case 0: return 350 + s.random.nextInt(150); // 350-500ms (slow)
+            case 1: return 250 + s.random.nextInt(100); // 250-350ms (normal)
+            case 2: return 180 + s.random.nextInt(70);  // 180-250ms (fast)
+            case 3: return 120 + s.random.nextInt(50);  // 120-170ms (very fast)
+            case 4: return 50 + s.random.nextInt(30);   // 50-80ms (inhuman)
+            default: return 250;
+        }
+    }
+    
+    // Imperfect prediction system with growing errors based on distance
+    private double calculatePredictionError(SimulationState s, int difficulty, double distance) {
+        double baseError = distance / s.boardWidth; // Error grows with distance
+        
+        switch (difficulty) {
+            case 0: return baseError * 80 + s.random.nextGaussian() * 40; // ±40-120px
+            case 1: return baseError * 50 + s.random.nextGaussian() * 25; // ±25-75px
+            case 2: return baseError * 30 + s.random.nextGaussian() * 15; // ±15-45px
+            case 3: return baseError * 15 + s.random.nextGaussian() * 8;  // ±8-23px
+            case 4: return baseError * 5 + s.random.nextGaussian() * 3;   // ±3-8px
+            default: return baseError * 50;
+        }
+    }
+    
+    // Personality-based movement patterns
+    private double applyPersonalityTraits(SimulationState s, double velocity, int difficulty) {
+        switch (difficulty) {
+            case 0: // CAUTIOUS - Hesitant, conservative movements
+                if (s.random.nextDouble() < 0.4) velocity *= 0.6; // Frequent hesitation
+                if (s.random.nextDouble() < 0.2) velocity *= -0.3; // Wrong direction
+                break;
+                
+            case 1: // BALANCED - Moderate errors, balanced play
+                if (s.random.nextDouble() < 0.15) velocity *= 0.8; // Some hesitation
+                if (s.random.nextDouble() < 0.1) velocity *= 1.2; // Occasional rush
+                break;
+                
+            case 2: // AGGRESSIVE - Fast but sometimes overcommits
+                if (s.random.nextDouble() < 0.12) velocity *= 1.4; // Aggressive moves
+                if (s.random.nextDouble() < 0.08) velocity *= 0.7; // Overcommit recovery
+                break;
+                
+            case 3: // PREDICTIVE - Smooth, calculated movements
+                if (s.random.nextDouble() < 0.05) velocity *= 0.9; // Rare hesitation
+                if (s.random.nextDouble() < 0.03) velocity *= 1.1; // Precise adjustments
+                break;
+                
+            case 4: // PERFECT - Minimal errors, machine-like precision
+                if (s.random.nextDouble() < 0.02) velocity *= 0.98; // Tiny imperfections
+                break;
+        }
+        
+        return velocity;
+    }
+    
+    private void updateAI_Easy(SimulationState s, double deltaTime) {
+        // FACILE: Player wins 85% - Weak AI with many mistakes (slightly harder)
+        double ballCenterY = s.ballY + s.ballSize / 2;
+        double paddleCenterY = s.aiPaddleY + s.paddleHeight / 2;
+        
+        // Get player paddle speed setting
+        double baseSpeed = 4.0; // Lenta
+        if (s.paddleSpeedSetting == 1) baseSpeed = 6.0; // Media  
+        else if (s.paddleSpeedSetting == 2) baseSpeed = 8.0; // Veloce
+        double playerSpeed = Math.max(3, (int)(baseSpeed * s.scaleY)); // Same as player paddle
+        
+        // React earlier and more consistently
+        if (s.ballVX > 0 && s.ballX > s.boardWidth * 0.65) {
+            // 40% chance to miss completely (reduced from 50%)
+            if (s.random.nextDouble() < 0.4) {
+                return; // Skip this update (mistake)
+            }
+            
+            // Large error in targeting but slightly better
+            double error = (s.random.nextDouble() - 0.5) * 100; // ±50 pixel error (reduced from ±60)
+            double targetY = ballCenterY + error;
+            
+            // Slightly faster than before (25% of player speed)
+            double maxSpeed = playerSpeed * 0.25;
+            double diff = targetY - paddleCenterY;
+            
+            if (Math.abs(diff) > 20) {
+                s.aiCurrentVelocity = Math.signum(diff) * Math.min(maxSpeed, Math.abs(diff) * 0.35);
+            } else {
+                s.aiCurrentVelocity *= 0.7; // Slow down when close
+            }
+        } else {
+            // Return to center very slowly
+            double centerY = s.boardHeight / 2;
+            double diff = centerY - paddleCenterY;
+            s.aiCurrentVelocity = Math.signum(diff) * Math.min(playerSpeed * 0.1, Math.abs(diff) * 0.1);
+        }
+        
+        // Add movement errors to make AI more human-like
+        s.aiCurrentVelocity = applyMovementErrors(s, s.aiCurrentVelocity, 0); // 0 = Easy difficulty
+        
+        s.aiPaddleY += s.aiCurrentVelocity;
+    }
+    
+    private void updateAI_Normal(SimulationState s, double deltaTime) {
+        // NORMALE: Progressive AI that starts easier and gradually gets harder
+        double ballCenterY = s.ballY + s.ballSize / 2;
+        double paddleCenterY = s.aiPaddleY + s.paddleHeight / 2;
+        
+        // Get player paddle speed setting
+        double baseSpeed = 4.0; // Lenta
+        if (s.paddleSpeedSetting == 1) baseSpeed = 6.0; // Media  
+        else if (s.paddleSpeedSetting == 2) baseSpeed = 8.0; // Veloce
+        double playerSpeed = Math.max(3, (int)(baseSpeed * s.scaleY)); // Same as player paddle
+        
+        // COMPREHENSIVE ADAPTIVE DIFFICULTY SYSTEM (Based on 2024 AI Research)
+        int playerScore = s.score1;  // Left paddle (player) score
+        int aiScore = s.score2;      // Right paddle (AI) score
+        int totalPoints = playerScore + aiScore;
+        int scoreDifference = playerScore - aiScore;
+        long gameTime = s.timeMillis - s.gameStartTime;
+        
+        // CORE PERFORMANCE METRICS (Research-based)
+        double gameProgressFactor = Math.min(1.0, totalPoints / 12.0); // Extended to 12 points for more granular progression
+        double playerPerformanceFactor = calculateAdvancedPlayerPerformance(s, playerScore, aiScore, totalPoints);
+        double streakFactor = calculateAdvancedStreakFactor(s);
+        double rallyIntensityFactor = calculateRallyIntensityFactor(s);
+        
+        // ADVANCED BEHAVIORAL METRICS (MIT/DeepMind inspired)
+        double timeBasedStressFactor = Math.min(1.0, gameTime / 300000.0); // 5 minutes max stress buildup
+        double dominanceFactor = calculateDominanceFactor(s, playerScore, aiScore);
+        double consistencyFactor = calculateConsistencyFactor(s);
+        double reactionTimeFactor = calculatePlayerReactionTime(s);
+        
+        // PHYSIOLOGICAL SIMULATION (Research: pupil dilation studies)
+        double engagementFactor = calculateEngagementLevel(s, scoreDifference, s.currentRallyHits);
+        double frustrationFactor = calculateFrustrationLevel(s, s.aiWinStreak, playerScore);
+        
+        // BALL PHYSICS ADAPTATION (40mm ball physics research)
+        double ballSpeedAdaptation = calculateBallSpeedAdaptation(s);
+        double trajectoryComplexityFactor = Math.min(1.0, Math.abs(s.ballVY) / 8.0); // More complex angles = skilled player
+        
+        // BALANCED WEIGHTED COMBINATION (Research: start at moderate baseline)
+        double baselineDifficulty = 0.3; // Start at 30% baseline (research: avoid too easy start)
+        double adaptiveDifficulty = baselineDifficulty + 
+                                   (gameProgressFactor * 0.10) +          // Game length (reduced weight)
+                                   (Math.max(0.0, playerPerformanceFactor) * 0.20) +      // Core performance (main factor)
+                                   (Math.max(-0.3, Math.min(0.8, streakFactor)) * 0.12) + // Win/loss patterns (clamped, less extreme)
+                                   (Math.max(0.0, rallyIntensityFactor) * 0.08) +         // Rally skill
+                                   (Math.max(0.0, dominanceFactor) * 0.12) +              // Score dominance (important)
+                                   (Math.max(0.0, consistencyFactor) * 0.06) +            // Play consistency
+                                   (Math.max(0.0, reactionTimeFactor) * 0.04) +           // Reaction speed
+                                   (Math.max(0.0, engagementFactor) * 0.03) +             // Player engagement
+                                   (Math.max(0.0, Math.min(0.5, frustrationFactor)) * 0.02) + // Frustration (anti-frustration)
+                                   (Math.max(0.0, ballSpeedAdaptation) * 0.03);           // Ball physics mastery
+        
+        adaptiveDifficulty = Math.max(0.0, Math.min(1.0, adaptiveDifficulty)); // Clamp 0-1
+        
+        // MINIMUM RALLY GUARANTEE - First 10 hits must be successful
+        boolean guaranteeHit = s.currentRallyHits < 10;
+        
+        // SAFETY CLAMPS - AI must always be functional
+        adaptiveDifficulty = Math.max(0.0, Math.min(1.0, adaptiveDifficulty));
+        
+        // RESEARCH-BASED BALANCED PARAMETERS (Target: 50% player win rate)
+        // Key principle: High speed + strategic failures = balanced gameplay
+        double reactionDistance = guaranteeHit ? 0.3 : Math.max(0.2, 0.45 - (adaptiveDifficulty * 0.25)); // More aggressive: 45% to 20%
+        double errorMultiplier = guaranteeHit ? 0.2 : Math.max(0.3, Math.min(1.0, 0.8 - (adaptiveDifficulty * 0.4))); // Fewer errors: 80% to 30%
+        double speedMultiplier = guaranteeHit ? 0.8 : Math.max(0.6, Math.min(1.1, 0.7 + (adaptiveDifficulty * 0.4))); // Higher speeds: 70% to 110%
+        double mistakeChance = guaranteeHit ? 0.03 : Math.max(0.08, Math.min(0.25, 0.2 - (adaptiveDifficulty * 0.12))); // Strategic failures: 20% to 8%
+        
+        // EMERGENCY REACTION ZONE - Always react if ball is very close
+        boolean emergencyZone = s.ballVX > 0 && s.ballX > s.boardWidth * 0.8; // Last 20% of screen
+        boolean normalReaction = s.ballVX > 0 && s.ballX > s.boardWidth * reactionDistance;
+        
+        if (emergencyZone || normalReaction) {
+            // Calculate where ball will hit the paddle line
+            int rightPaddleX = s.boardWidth - (int)(20 * s.scaleX) - s.paddleWidth;
+            double timeToReach = (rightPaddleX - s.ballX) / s.ballVX;
+            
+            // Predict ball position with progressive error reduction
+            double predictedY = s.ballY + s.ballVY * timeToReach;
+            
+            // STRATEGIC FAILURE SYSTEM (Research-based balancing)
+            double paddleBallDistance = Math.abs(paddleCenterY - ballCenterY);
+            boolean tooFarToReach = paddleBallDistance > s.paddleHeight * 2.5; // Research: strategic failure when too far
+            
+            // EMERGENCY MODE - Much more accurate in emergency zone
+            double finalErrorMultiplier = emergencyZone ? 0.1 : errorMultiplier;
+            double finalMistakeChance = emergencyZone ? 0.01 : mistakeChance;
+            
+            // STRATEGIC FAILURE - Miss when too far (research principle)
+            if (tooFarToReach && !emergencyZone) {
+                finalMistakeChance = Math.min(0.6, finalMistakeChance * 3.0); // Higher failure when far
+                finalErrorMultiplier = Math.min(1.5, finalErrorMultiplier * 2.0); // More errors when reaching
+            }
+            
+            // Add reaction delay and prediction error (research-tuned)
+            double baseError = 25 * finalErrorMultiplier; // Reduced base error for more challenge
+            double reactionError = s.random.nextGaussian() * baseError;
+            double targetY = predictedY + reactionError;
+            
+            // Strategic mistake chance (research: AI should fail predictably when disadvantaged)
+            if (s.random.nextDouble() < finalMistakeChance) {
+                double mistakeSize = 80 * finalErrorMultiplier; // Smaller but more strategic errors
+                targetY += (s.random.nextDouble() - 0.5) * mistakeSize;
+            }
+            
+            // Progressive speed increase (faster in emergency)
+            double diff = targetY - paddleCenterY;
+            double finalSpeedMultiplier = emergencyZone ? Math.max(speedMultiplier, 0.8) : speedMultiplier;
+            double maxSpeed = playerSpeed * finalSpeedMultiplier;
+            
+            // HUMAN-LIKE REACTION DELAY (Research: humans don't react instantly)
+            double reactionDelay = emergencyZone ? 0.05 : (0.15 - (adaptiveDifficulty * 0.1)); // 150ms to 50ms reaction
+            double accelerationRate = emergencyZone ? 0.25 : (0.08 + (adaptiveDifficulty * 0.12)); // Adaptive acceleration
+            
+            // Acceleration/deceleration with human-like delays
+            double desiredVel = Math.signum(diff) * Math.min(maxSpeed, Math.abs(diff) * (0.5 + adaptiveDifficulty * 0.5));
+            s.aiCurrentVelocity += (desiredVel - s.aiCurrentVelocity) * accelerationRate;
+            
+        } else {
+            // Return to center with some overshoot
+            double centerY = s.boardHeight / 2;
+            double diff = centerY - paddleCenterY;
+            s.aiCurrentVelocity += Math.signum(diff) * 0.6 * s.scaleY;
+            s.aiCurrentVelocity *= 0.94; // Damping
+        }
+        
+        // Add adaptive movement errors - NORMALE difficulty (with rally guarantee and emergency override)
+        double movementErrorFactor = emergencyZone ? 0.05 : (guaranteeHit ? 0.1 : adaptiveDifficulty);
+        s.aiCurrentVelocity = applyProgressiveMovementErrors(s, s.aiCurrentVelocity, movementErrorFactor);
+        
+        s.aiPaddleY += s.aiCurrentVelocity;
+    }
+    
+    private void updateAI_Hard(SimulationState s, double deltaTime) {
+        // DIFFICILE: Player wins 15% - More competitive AI with strong prediction
+        double ballCenterY = s.ballY + s.ballSize / 2;
+        double paddleCenterY = s.aiPaddleY + s.paddleHeight / 2;
+        
+        // Get player paddle speed setting
+        double baseSpeed = 4.0; // Lenta
+        if (s.paddleSpeedSetting == 1) baseSpeed = 6.0; // Media  
+        else if (s.paddleSpeedSetting == 2) baseSpeed = 8.0; // Veloce
+        double playerSpeed = Math.max(3, (int)(baseSpeed * s.scaleY)); // Same as player paddle
+        
+        if (s.ballVX > 0 && s.ballX > s.boardWidth * 0.3) { // Earlier reaction (was 0.35)
+            // Advanced prediction with fewer errors
+            double predictionY = calculateBallTrajectory(s);
+            
+            // Reduced errors - 10% chance of mistake (reduced from 15%)
+            if (s.random.nextDouble() < 0.10) {
+                predictionY += (s.random.nextDouble() - 0.5) * 40; // Smaller error (reduced from 60)
+            }
+            
+            // Reduced reaction error
+            double reactionError = s.random.nextGaussian() * 18; // Reduced from 25
+            predictionY += reactionError;
+            
+            // Faster movement (90% of player speed, increased from 80%)
+            double diff = predictionY - paddleCenterY;
+            double maxSpeed = playerSpeed * 0.90;
+            
+            // More responsive movement
+            if (Math.abs(diff) > 6) { // More precise threshold (was 8)
+                double desiredVel = Math.signum(diff) * Math.min(maxSpeed, Math.abs(diff) * 1.2); // Increased multiplier
+                s.aiCurrentVelocity += (desiredVel - s.aiCurrentVelocity) * 0.22; // Faster acceleration (was 0.18)
+            } else {
+                s.aiCurrentVelocity *= 0.94; // Better fine positioning (was 0.92)
+            }
+            
+        } else {
+            // More aggressive strategic positioning
+            double strategicY = s.boardHeight * 0.5;
+            double diff = strategicY - paddleCenterY;
+            s.aiCurrentVelocity += Math.signum(diff) * Math.min(playerSpeed * 0.4, Math.abs(diff) * 0.5); // Increased positioning speed
+            s.aiCurrentVelocity *= 0.98; // Better damping (was 0.97)
+        }
+        
+        // Add movement errors - DIFFICILE difficulty
+        s.aiCurrentVelocity = applyMovementErrors(s, s.aiCurrentVelocity, 2);
+        
+        s.aiPaddleY += s.aiCurrentVelocity;
+    }
+    
+    private void updateAI_Expert(SimulationState s, double deltaTime) {
+        // ESPERTO: Player wins 8% - Elite AI with near-professional level play
+        double ballCenterY = s.ballY + s.ballSize / 2;
+        double paddleCenterY = s.aiPaddleY + s.paddleHeight / 2;
+        
+        // Get player paddle speed setting
+        double baseSpeed = 4.0; // Lenta
+        if (s.paddleSpeedSetting == 1) baseSpeed = 6.0; // Media  
+        else if (s.paddleSpeedSetting == 2) baseSpeed = 8.0; // Veloce
+        double playerSpeed = Math.max(3, (int)(baseSpeed * s.scaleY)); // Same as player paddle
+        
+        if (s.ballVX > 0 && s.ballX > s.boardWidth * 0.2) { // Much earlier reaction (was 0.25)
+            // Elite prediction with minimal errors
+            double predictionY = calculateBallTrajectory(s);
+            
+            // Very few errors - 6% chance of mistake (reduced from 10%)
+            if (s.random.nextDouble() < 0.06) {
+                predictionY += (s.random.nextDouble() - 0.5) * 30; // Much smaller error (reduced from 60)
+            }
+            
+            // Minimal reaction delay
+            double reactionError = s.random.nextGaussian() * 12; // Reduced from 20
+            predictionY += reactionError;
+            
+            // Near player speed (105% of player speed for challenge)
+            double diff = predictionY - paddleCenterY;
+            double maxSpeed = playerSpeed * 1.05;
+            
+            // Highly responsive movement
+            if (Math.abs(diff) > 4) { // Very precise threshold (was 8)
+                double desiredVel = Math.signum(diff) * Math.min(maxSpeed, Math.abs(diff) * 1.4); // Higher multiplier
+                s.aiCurrentVelocity += (desiredVel - s.aiCurrentVelocity) * 0.26; // Much faster acceleration (was 0.18)
+            } else {
+                s.aiCurrentVelocity *= 0.96; // Very precise positioning (was 0.92)
+            }
+            
+        } else {
+            // Advanced strategic positioning with anticipation
+            double strategicY = s.boardHeight * 0.5;
+            // Anticipate player movement patterns
+            if (s.ballVX < 0 && s.ballX < s.boardWidth * 0.5) {
+                // Position slightly towards where ball might return
+                strategicY += (s.ballY - s.boardHeight * 0.5) * 0.3;
+            }
+            double diff = strategicY - paddleCenterY;
+            s.aiCurrentVelocity += Math.signum(diff) * Math.min(playerSpeed * 0.5, Math.abs(diff) * 0.6); // Faster positioning
+            s.aiCurrentVelocity *= 0.99; // Superior damping (was 0.95)
+        }
+        
+        // Add movement errors - ESPERTO difficulty
+        s.aiCurrentVelocity = applyMovementErrors(s, s.aiCurrentVelocity, 3);
+        
+        s.aiPaddleY += s.aiCurrentVelocity;
+    }
+    
+    private void updateAI_Perfect(SimulationState s, double deltaTime) {
+        // IMPOSSIBILE: Very challenging but not truly impossible (5% player win rate)
+        double ballCenterY = s.ballY + s.ballSize / 2;
+        double paddleCenterY = s.aiPaddleY + s.paddleHeight / 2;
+        
+        // Get player paddle speed setting
+        double baseSpeed = 4.0; // Lenta
+        if (s.paddleSpeedSetting == 1) baseSpeed = 6.0; // Media  
+        else if (s.paddleSpeedSetting == 2) baseSpeed = 8.0; // Veloce
+        double playerSpeed = Math.max(3, (int)(baseSpeed * s.scaleY)); // Same as player paddle
+        
+        // Always tracking when ball is moving toward AI
+        if (isInReactionZone(s, 4)) {
+            // Very fast reaction delay (40-60ms)
+            long reactionTime = getReactionDelay(s, 4);
+            if (s.timeMillis - s.lastBallDirectionChange < reactionTime) {
+                return;
+            }
+            
+            // Near-perfect trajectory prediction
+            double predictionY = calculateAdvancedBallTrajectory(s);
+            
+            // Very small prediction error (5% chance of bigger mistake to allow some wins)
+            double distance = s.boardWidth - s.ballX;
+            double predictionError = calculatePredictionError(s, 4, distance);
+            
+            // Rare chance for significant error to give player hope
+            if (s.random.nextDouble() < 0.05) {
+                predictionError += (s.random.nextDouble() - 0.5) * 60; // Occasional mistake
+            }
+            
+            double targetY = predictionY + predictionError;
+            
+            // Near player speed with excellent timing
+            double maxSpeed = playerSpeed * 0.98; // Almost as fast as player
+            double diff = targetY - paddleCenterY;
+            
+            // Machine-like precision movements
+            if (Math.abs(diff) > 5) {
+                double desiredVel = Math.signum(diff) * Math.min(maxSpeed, Math.abs(diff) * 0.8);
+                s.aiCurrentVelocity += (desiredVel - s.aiCurrentVelocity) * 0.3;
+            } else {
+                s.aiCurrentVelocity *= 0.95; // Perfect positioning
+            }
+            
+        } else {
+            // Strategic counter-positioning based on player patterns
+            double strategicY = s.boardHeight * 0.5;
+            
+            // Analyze player paddle position for counter-strategy
+            double playerPaddleCenter = s.paddle1Y + s.paddleHeight / 2.0;
+            double screenCenter = s.boardHeight / 2.0;
+            double playerBias = (playerPaddleCenter - screenCenter) / (s.boardHeight / 2.0);
+            
+            // Counter-position to player's likely shot
+            strategicY += playerBias * s.paddleHeight * 0.6;
+            
+            double diff = strategicY - paddleCenterY;
+            s.aiCurrentVelocity = Math.signum(diff) * Math.min(playerSpeed * 0.4, Math.abs(diff) * 0.3);
+        }
+        
+        // Apply perfect personality traits (minimal errors)
+        s.aiCurrentVelocity = applyPersonalityTraits(s, s.aiCurrentVelocity, 4);
+        
+        s.aiPaddleY += s.aiCurrentVelocity;
+    }
+    
+    // Advanced trajectory calculation with multiple wall bounces (for predictive AI)
+    double calculateAdvancedBallTrajectory(SimulationState s) {
+        double simBallX = s.ballX;
+        double simBallY = s.ballY;
+        double simBallVX = s.ballVX;
+        double simBallVY = s.ballVY;
+        
+        int rightPaddleX = s.boardWidth - (int)(20 * s.scaleX) - s.paddleWidth;
+        int bounceCount = 0;
+        
+        // Simulate ball movement with multiple wall bounces
+        while (simBallX < rightPaddleX && simBallVX > 0 && bounceCount < 10) {
+            simBallX += simBallVX;
+            simBallY += simBallVY;
+            
+            // Check for wall bounces
+            if (simBallY <= 0) {
+                simBallVY = Math.abs(simBallVY); // Bounce down
+                simBallY = 0;
+                bounceCount++;
+            } else if (simBallY >= s.boardHeight - s.ballSize) {
+                simBallVY = -Math.abs(simBallVY); // Bounce up
+                simBallY = s.boardHeight - s.ballSize;
+                bounceCount++;
+            }
+            
+            // Safety check
+            if (simBallX > s.boardWidth * 2) break;
+        }
+        
+        return simBallY + s.ballSize / 2;
+    }
+    
+    // Simple trajectory for basic AI levels
+    private double calculateBallTrajectory(SimulationState s) {
+        double simBallX = s.ballX;
+        double simBallY = s.ballY;
+        double simBallVX = s.ballVX;
+        double simBallVY = s.ballVY;
+        
+        int rightPaddleX = s.boardWidth - (int)(20 * s.scaleX) - s.paddleWidth;
+        
+        // Simple simulation with one bounce
+        while (simBallX < rightPaddleX && simBallVX > 0) {
+            simBallX += simBallVX;
+            simBallY += simBallVY;
+            
+            // Single wall bounce
+            if (simBallY <= 0 || simBallY >= s.boardHeight - s.ballSize) {
+                simBallVY = -simBallVY;
+                simBallY = Math.max(0, Math.min(s.boardHeight - s.ballSize, simBallY));
+                break; // Only one bounce for simpler AI
+            }
+            
+            if (simBallX > s.boardWidth * 2) break;
+        }
+        
+        return simBallY + s.ballSize / 2;
+    }
+    
+    void applyPaddlePhysics(SimulationState s, int paddleNumber, int paddleX, int paddleY) {
+        // Advanced physics system considering multiple factors
+        
+        // Count this hit for progressive speed increase
+        s.currentRallyHits++;
+        
+        // 1. IMPACT POSITION - Where on paddle the ball hits
+        double ballCenterY = s.ballY + s.ballSize / 2;
+        double paddleCenterY = paddleY + s.paddleHeight / 2;
+        double impactOffset = (ballCenterY - paddleCenterY) / (s.paddleHeight / 2); // -1 to 1
+        
+        // 2. PADDLE MOVEMENT - Transfer momentum from moving paddle
+        int currentPaddleY = paddleNumber == 1 ? s.paddle1Y : s.paddle2Y;
+        int previousPaddleY = paddleNumber == 1 ? s.prevPaddle1Y : s.prevPaddle2Y;
+        double paddleVelocity = (currentPaddleY - previousPaddleY); // Pixels per frame
+        
+        // 3. BALL SPEED - Current ball speed magnitude
+        double currentSpeed = Math.sqrt(s.ballVX * s.ballVX + s.ballVY * s.ballVY);
+        
+        // 4. PROGRESSIVE SPEED INCREASE (based on research)
+        // Slower progression: 1% increase per hit instead of 3%
+        double speedMultiplier = 1.0 + (s.currentRallyHits * 0.01); // 1% increase per hit
+        speedMultiplier = Math.min(speedMultiplier, 1.8); // Cap at 180% of initial speed
+        
+        // 4. AI DIFFICULTY FACTOR - Affects ball behavior
+        double difficultyFactor = 1.0;
+        if (s.singlePlayer) {
+            switch (s.aiDifficultySetting) {
+                case 0: // Facile - Much slower for player advantage (90% win rate)
+                    difficultyFactor = 0.8;
+                    break;
+                case 1: // Normale - Balanced (50% win rate)
+                    difficultyFactor = 0.95;
+                    break;
+                case 2: // Difficile - Faster ball (15% win rate)
+                    difficultyFactor = 1.12;
+                    break;
+                case 3: // Esperto - Much faster ball (8% win rate)
+                    difficultyFactor = 1.22;
+                    break;
+                case 4: // Impossibile - Much faster (8% win rate)
+                    difficultyFactor = 1.25;
+                    break;
+            }
+        }
+        
+        // 5. RALLY COUNT FACTOR - Ball gets slightly faster in long s.rallies
+        double rallyFactor = 1.0 + (s.rallies * 0.01); // 1% increase per rally, max effect
+        rallyFactor = Math.min(rallyFactor, 1.2); // Cap at 20% increase
+        
+        // CALCULATE NEW VELOCITY
+        
+        // Reverse X direction
+        s.ballVX = -s.ballVX;
+        s.lastBallDirectionChange = s.timeMillis; // Track direction change for AI
+        
+        // Calculate new speed based on impact and conditions
+        double baseSpeed = currentSpeed;
+        
+        // SPEED REDUCTION CONDITIONS:
+        // 1. Paddle moving away from ball (defensive hit) - reduces speed
+        boolean defensiveHit = (paddleNumber == 1 && paddleVelocity > 0 && s.ballVY > 0) || 
+                              (paddleNumber == 1 && paddleVelocity < 0 && s.ballVY < 0) ||
+                              (paddleNumber == 2 && paddleVelocity > 0 && s.ballVY > 0) || 
+                              (paddleNumber == 2 && paddleVelocity < 0 && s.ballVY < 0);
+        
+        // 2. Edge hits (poor contact) - reduces speed
+        boolean edgeHit = Math.abs(impactOffset) > 0.7;
+        
+        // 3. Very fast ball (over 80% of max speed) - natural decay
+        boolean fastBall = currentSpeed > (s.maxBallSpeed * 0.8);
+        
+        // Apply speed modifications
+        if (defensiveHit) {
+            baseSpeed *= 0.85; // Reduce speed by 15% for defensive hits
+        } else if (edgeHit) {
+            baseSpeed *= 0.90; // Reduce speed by 10% for edge hits
+        } else if (fastBall) {
+            baseSpeed *= 0.95; // Slight natural decay for very fast balls
+        } else {
+            baseSpeed *= 0.98; // Very slight decay for normal hits
+        }
+        
+        // Apply difficulty factor
+        baseSpeed *= difficultyFactor;
+        
+        // Apply rally factor for long games
+        baseSpeed *= rallyFactor;
+        
+        // Apply progressive speed increase
+        baseSpeed *= speedMultiplier;
+        
+        // Add paddle movement momentum
+        double paddleMomentum = paddleVelocity * PADDLE_SPEED_TRANSFER;
+        
+        // Calculate new angle based on impact position
+        double newAngle = impactOffset * (Math.PI / 6); // Max 30 degrees
+        
+        // Apply angle to Y velocity
+        s.ballVY = Math.sin(newAngle) * baseSpeed + paddleMomentum;
+        
+        // Ensure X velocity maintains minimum speed
+        double xComponent = Math.cos(newAngle) * baseSpeed;
+        s.ballVX = s.ballVX > 0 ? Math.max(xComponent, s.minBallSpeed) : -Math.max(xComponent, s.minBallSpeed);
+        
+        // 6. SPECIAL CONDITIONS
+        
+        // Perfect center hit - extra speed boost
+        if (Math.abs(impactOffset) < 0.1) {
+            double speedBoost = 1.1;
+            s.ballVX *= speedBoost;
+            s.ballVY *= speedBoost;
+        }
+        
+        // Edge hit - more extreme angle
+        if (Math.abs(impactOffset) > 0.8) {
+            s.ballVY *= 1.5; // More dramatic angle
+        }
+        
+        // Fast paddle movement - extra momentum transfer
+        if (Math.abs(paddleVelocity) > 3) {
+            s.ballVY += paddleVelocity * 0.5; // Extra momentum
+        }
+        
+        // Apply maximum speed limits using dynamic max speed (unless fire ball unlimited speed is active)
+        double finalSpeed = Math.sqrt(s.ballVX * s.ballVX + s.ballVY * s.ballVY);
+        if (finalSpeed > s.maxBallSpeed && !s.unlimitedSpeedActive) {
+            double scale = s.maxBallSpeed / finalSpeed;
+            s.ballVX *= scale;
+            s.ballVY *= scale;
+        }
+        
+        // Ensure minimum speed
+        if (finalSpeed < s.minBallSpeed) {
+            double scale = s.minBallSpeed / finalSpeed;
+            s.ballVX *= scale;
+            s.ballVY *= scale;
+        }
+        
+        // Position ball outside paddle to prevent multiple collisions
+        if (paddleNumber == 1) {
+            s.ballX = paddleX + 1;
+        } else {
+            s.ballX = paddleX - s.ballSize - 1;
+        }
+    }}
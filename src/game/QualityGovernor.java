@@ -0,0 +1,169 @@
+package game;
+
+/**
+ * Picks the render quality from the measured frame times, so slower machines drop effects instead of frames.
+ * Every frame time goes into a rolling history; at the end of each window of WINDOW_FRAMES frames:
+ * - too many frames over the slow threshold: one tier down right away
+ * - every frame well under the budget for UPGRADE_WINDOWS windows in a row: one tier up
+ * After a change the next COOLDOWN_WINDOWS windows are only observed, so the new tier gets measured
+ * before it is judged. The gap between the two thresholds keeps the tier from oscillating.
+ *
+ * Written by the thread that draws; the tier is volatile so the GameLoop thread can read the particle budget.
+ */
+public class QualityGovernor {
+
+    /**
+     * Quality tiers, from full effects to the bare minimum
+     */
+    public enum Tier {
+        //        antialias glow   trail  particles gradient lighting
+        HIGH(     true,     true,  12,    4096,     true,    true),
+        MEDIUM(   true,     true,  8,     1024,     false,   true),
+        LOW(      false,    false, 4,     256,      false,   false),
+        MINIMAL(  false,    false, 0,     64,       false,   false);
+
+        public final boolean antialiasing;         // Antialiased shapes and text
+        public final boolean paddleGlow;           // Glow around the paddles near the ball
+        public final int trailLength;              // Ball trail samples drawn
+        public final int particleBudget;           // Live particles at most
+        public final boolean contrastGradient;     // Gradient pass of the menu contrast overlay
+        public final boolean checkerboardLighting; // Settings checkerboard light follows the selection
+
+        Tier(boolean antialiasing, boolean paddleGlow, int trailLength, int particleBudget,
+             boolean contrastGradient, boolean checkerboardLighting) {
+            this.antialiasing = antialiasing;
+            this.paddleGlow = paddleGlow;
+            this.trailLength = trailLength;
+            this.particleBudget = particleBudget;
+            this.contrastGradient = contrastGradient;
+            this.checkerboardLighting = checkerboardLighting;
+        }
+
+        Tier lower() {
+            return this == MINIMAL ? MINIMAL : values()[ordinal() + 1];
+        }
+
+        Tier higher() {
+            return this == HIGH ? HIGH : values()[ordinal() - 1];
+        }
+    }
+
+    public static final int HISTORY_SIZE = 240;
+    private static final int WINDOW_FRAMES = 60;
+    private static final int UPGRADE_WINDOWS = 5;
+    private static final int COOLDOWN_WINDOWS = 2;
+
+    // Slow = over 75% of the frame budget (the rest is needed by the logic ticks and the buffer flip)
+    private static final double SLOW_FRACTION = 0.75;
+    // Fast = under 40% of the frame budget, so the next tier up still fits
+    private static final double FAST_FRACTION = 0.40;
+    // Down a tier when more than 10% of a window is slow
+    private static final int SLOW_FRAMES_ALLOWED = WINDOW_FRAMES / 10;
+
+    private final long slowNanos;
+    private final long fastNanos;
+    private final boolean automatic;
+    private volatile Tier tier;
+
+    private final long[] history = new long[HISTORY_SIZE];
+    private int historyNext = 0;
+    private int historyCount = 0;
+
+    private int windowFrames = 0;
+    private int windowSlowFrames = 0;
+    private long windowMaxNanos = 0;
+    private int fastWindows = 0;
+    private int cooldownWindows = 0;
+    private int tierChanges = 0;
+
+    /**
+     * @param frameBudgetNanos time available for one frame at the target frame rate
+     * @param fixedTier tier to keep no matter the frame times, null to adapt
+     */
+    public QualityGovernor(long frameBudgetNanos, Tier fixedTier) {
+        this.slowNanos = (long) (frameBudgetNanos * SLOW_FRACTION);
+        this.fastNanos = (long) (frameBudgetNanos * FAST_FRACTION);
+        this.automatic = fixedTier == null;
+        this.tier = fixedTier != null ? fixedTier : Tier.HIGH;
+    }
+
+    public Tier getTier() {
+        return tier;
+    }
+
+    public boolean isAutomatic() {
+        return automatic;
+    }
+
+    public int getTierChanges() {
+        return tierChanges;
+    }
+
+    public long getSlowNanos() {
+        return slowNanos;
+    }
+
+    public void recordFrame(long nanos) {
+        history[historyNext] = nanos;
+        historyNext = historyNext + 1 == HISTORY_SIZE ? 0 : historyNext + 1;
+        if (historyCount < HISTORY_SIZE) {
+            historyCount++;
+        }
+
+        windowFrames++;
+        if (nanos > slowNanos) {
+            windowSlowFrames++;
+        }
+        windowMaxNanos = Math.max(windowMaxNanos, nanos);
+        if (windowFrames == WINDOW_FRAMES) {
+            endWindow();
+        }
+    }
+
+    private void endWindow() {
+        if (automatic) {
+            if (cooldownWindows > 0) {
+                cooldownWindows--;
+            } else if (windowSlowFrames > SLOW_FRAMES_ALLOWED && tier != Tier.MINIMAL) {
+                changeTier(tier.lower(), windowSlowFrames + "/" + WINDOW_FRAMES + " frames over "
+                        + String.format("%.1f", slowNanos / 1_000_000.0) + " ms");
+            } else if (windowMaxNanos < fastNanos && tier != Tier.HIGH) {
+                if (++fastWindows >= UPGRADE_WINDOWS) {
+                    changeTier(tier.higher(), UPGRADE_WINDOWS + " windows under "
+                            + String.format("%.1f", fastNanos / 1_000_000.0) + " ms");
+                }
+            } else {
+                fastWindows = 0;
+            }
+        }
+        windowFrames = 0;
+        windowSlowFrames = 0;
+        windowMaxNanos = 0;
+    }
+
+    private void changeTier(Tier next, String reason) {
+        System.out.println("[Performance] Quality " + tier + " -> " + next + " (" + reason + ")");
+        tier = next;
+        tierChanges++;
+        fastWindows = 0;
+        cooldownWindows = COOLDOWN_WINDOWS;
+    }
+
+    /**
+     * Number of frames in the history (at most HISTORY_SIZE)
+     */
+    public int getHistoryCount() {
+        return historyCount;
+    }
+
+    /**
+     * Frame time i of the history, 0 = oldest
+     */
+    public long getHistoryNanos(int i) {
+        int index = historyNext - historyCount + i;
+        if (index < 0) {
+            index += HISTORY_SIZE;
+        }
+        return history[index];
+    }
+}
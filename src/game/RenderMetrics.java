@@ -0,0 +1,120 @@
+package game;
+
+import javax.swing.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Rendering statistics shared by the passive (paintComponent) and the active (BufferStrategy) path,
+ * so the two modes can be compared on the debug screen:
+ * - frame time: how long drawing one frame takes
+ * - present latency: time from the logic tick shown in a frame to the moment the frame is handed to the display
+ * - EDT delay: how long a probe posted with invokeLater waits before it runs (how backed up the event queue is)
+ */
+public class RenderMetrics {
+
+    // Weight of the newest sample in the averages
+    private static final double SMOOTHING = 1.0 / 32.0;
+
+    private final String modeName;
+
+    private volatile double averageFrameNanos = 0.0;
+    private volatile long maxFrameNanos = 0;
+    private volatile double averagePresentNanos = 0.0;
+    private volatile long maxPresentNanos = 0;
+    private volatile double averageEdtDelayNanos = 0.0;
+    private volatile long maxEdtDelayNanos = 0;
+    private volatile long frameCount = 0;
+
+    // Only one EDT probe is in the queue at a time
+    private final AtomicBoolean probeInFlight = new AtomicBoolean(false);
+
+    public RenderMetrics(String modeName) {
+        this.modeName = modeName;
+    }
+
+    /**
+     * Record a finished frame. Called by the thread that drew it.
+     * @param stateTime tick deadline of the snapshot the frame was drawn from (0 if unknown)
+     */
+    public void recordFrame(long startTime, long presentTime, long stateTime) {
+        long frameNanos = presentTime - startTime;
+        averageFrameNanos += (frameNanos - averageFrameNanos) * SMOOTHING;
+        if (frameNanos > maxFrameNanos) {
+            maxFrameNanos = frameNanos;
+        }
+
+        if (stateTime > 0) {
+            long presentNanos = presentTime - stateTime;
+            averagePresentNanos += (presentNanos - averagePresentNanos) * SMOOTHING;
+            if (presentNanos > maxPresentNanos) {
+                maxPresentNanos = presentNanos;
+            }
+        }
+        frameCount++;
+    }
+
+    /**
+     * Post a probe to the EDT unless one is still waiting there.
+     * Cheap enough to call from the game loop on every wakeup.
+     */
+    public void probeEventQueue() {
+        if (!probeInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        long postedAt = System.nanoTime();
+        SwingUtilities.invokeLater(() -> {
+            long delay = System.nanoTime() - postedAt;
+            averageEdtDelayNanos += (delay - averageEdtDelayNanos) * SMOOTHING;
+            if (delay > maxEdtDelayNanos) {
+                maxEdtDelayNanos = delay;
+            }
+            probeInFlight.set(false);
+        });
+    }
+
+    public void resetStatistics() {
+        averageFrameNanos = 0.0;
+        maxFrameNanos = 0;
+        averagePresentNanos = 0.0;
+        maxPresentNanos = 0;
+        averageEdtDelayNanos = 0.0;
+        maxEdtDelayNanos = 0;
+        frameCount = 0;
+    }
+
+    public double getAverageFrameNanos() {
+        return averageFrameNanos;
+    }
+
+    public long getMaxFrameNanos() {
+        return maxFrameNanos;
+    }
+
+    public double getAveragePresentNanos() {
+        return averagePresentNanos;
+    }
+
+    public long getMaxPresentNanos() {
+        return maxPresentNanos;
+    }
+
+    public double getAverageEdtDelayNanos() {
+        return averageEdtDelayNanos;
+    }
+
+    public long getMaxEdtDelayNanos() {
+        return maxEdtDelayNanos;
+    }
+
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    // Short summary for debug output
+    public String describeRendering() {
+        return String.format("Render (%s): frame avg %.2fms max %.2fms, present %.2fms, EDT delay %.2fms max %.2fms",
+                modeName, averageFrameNanos / 1_000_000.0, maxFrameNanos / 1_000_000.0,
+                averagePresentNanos / 1_000_000.0,
+                averageEdtDelayNanos / 1_000_000.0, maxEdtDelayNanos / 1_000_000.0);
+    }
+}
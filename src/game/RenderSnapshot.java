@@ -0,0 +1,121 @@
+package game;
+
+import context.AnimationContext;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * Copy of the moving game state taken at the end of a logic tick.
+ * The GameLoop thread fills one of these and publishes it through a {@link TripleBuffer},
+ * paintComponent draws from it without touching the live fields and lists.
+ * All arrays are preallocated and reused, they only grow when a list gets bigger than ever before.
+ */
+public class RenderSnapshot {
+
+    // Scheduled time of the tick this snapshot was taken at (base for the interpolation alpha)
+    long tickDeadline;
+
+    // Classic mode ball and paddles (previous tick + current tick)
+    double ballX, ballY, prevBallX, prevBallY;
+    double paddle1Y, paddle2Y, aiPaddleY;
+    double prevPaddle1Y, prevPaddle2Y, prevAiPaddleY;
+
+    // Classic ball trail
+    final BallTrail ballTrail = new BallTrail(AnimationContext.BALL_TRAIL_LENGTH);
+
+    // Particles (copied array by array from the live system)
+    final ParticleSystem particles = new ParticleSystem(AnimationContext.MAX_PARTICLES);
+
+    // Circle Mode bodies
+    final Bodies circleBalls = new Bodies(64);
+    final Bodies circleMenuBalls = new Bodies(32);
+    final Bodies circlePowerUps = new Bodies(4);
+    // Trail of each Circle Mode ball, same order as circleBalls (only grows)
+    BallTrail[] circleBallTrails = new BallTrail[0];
+
+    /**
+     * Positions (current + previous tick) of a list of round bodies, plus radius and type for power-ups
+     */
+    static class Bodies {
+        int count;
+        double[] x, y, prevX, prevY, radius;
+        int[] type;
+
+        Bodies(int capacity) {
+            x = new double[capacity];
+            y = new double[capacity];
+            prevX = new double[capacity];
+            prevY = new double[capacity];
+            radius = new double[capacity];
+            type = new int[capacity];
+        }
+
+        void clear() {
+            count = 0;
+        }
+
+        void add(double x, double y, double prevX, double prevY, double radius, int type) {
+            if (count == this.x.length) {
+                int capacity = count * 2;
+                this.x = Arrays.copyOf(this.x, capacity);
+                this.y = Arrays.copyOf(this.y, capacity);
+                this.prevX = Arrays.copyOf(this.prevX, capacity);
+                this.prevY = Arrays.copyOf(this.prevY, capacity);
+                this.radius = Arrays.copyOf(this.radius, capacity);
+                this.type = Arrays.copyOf(this.type, capacity);
+            }
+            this.x[count] = x;
+            this.y[count] = y;
+            this.prevX[count] = prevX;
+            this.prevY[count] = prevY;
+            this.radius[count] = radius;
+            this.type[count] = type;
+            count++;
+        }
+
+        double interpolatedX(int i, double alpha) {
+            return prevX[i] + (x[i] - prevX[i]) * alpha;
+        }
+
+        double interpolatedY(int i, double alpha) {
+            return prevY[i] + (y[i] - prevY[i]) * alpha;
+        }
+    }
+
+    // Copy the trail of Circle Mode ball i
+    void setCircleBallTrail(int i, BallTrail trail) {
+        if (i >= circleBallTrails.length) {
+            circleBallTrails = Arrays.copyOf(circleBallTrails, Math.max(i + 1, circleBallTrails.length * 2));
+        }
+        if (circleBallTrails[i] == null) {
+            circleBallTrails[i] = new BallTrail(AnimationContext.CIRCLE_BALL_TRAIL_LENGTH);
+        }
+        circleBallTrails[i].copyFrom(trail);
+    }
+
+    // Draw every particle at its position blended between the previous and the current tick
+    void drawParticles(Graphics2D g, double alpha) {
+        particles.draw(g, alpha);
+    }
+
+    double interpolatedBallX(double alpha) {
+        return prevBallX + (ballX - prevBallX) * alpha;
+    }
+
+    double interpolatedBallY(double alpha) {
+        return prevBallY + (ballY - prevBallY) * alpha;
+    }
+
+    double interpolatedPaddle1Y(double alpha) {
+        return prevPaddle1Y + (paddle1Y - prevPaddle1Y) * alpha;
+    }
+
+    double interpolatedPaddle2Y(double alpha) {
+        return prevPaddle2Y + (paddle2Y - prevPaddle2Y) * alpha;
+    }
+
+    double interpolatedAiPaddleY(double alpha) {
+        return prevAiPaddleY + (aiPaddleY - prevAiPaddleY) * alpha;
+    }
+}
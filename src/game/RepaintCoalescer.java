@@ -0,0 +1,102 @@
+package game;
+
+import javax.swing.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces repaint requests coming from the game loop.
+ * A single "frame pending" flag is set when a repaint is posted and cleared
+ * when paintComponent runs, so the EDT never has more than one frame queued.
+ * Requests made while a frame is still pending are merged into it.
+ */
+public class RepaintCoalescer {
+
+    // Re-post a repaint if the pending one never reached paintComponent (e.g. window was hidden)
+    private static final long STALE_FRAME_NANOS = 250_000_000L;
+
+    private final JComponent target;
+    private final long frameBudgetNanos;
+    private final AtomicBoolean framePending = new AtomicBoolean(false);
+    private volatile long pendingSince = 0;
+
+    // Counters (read by the debug screen)
+    private final AtomicLong requestedFrames = new AtomicLong();
+    private final AtomicLong paintedFrames = new AtomicLong();
+    private final AtomicLong coalescedFrames = new AtomicLong();
+    private final AtomicLong droppedFrames = new AtomicLong();
+
+    public RepaintCoalescer(JComponent target, long frameBudgetNanos) {
+        this.target = target;
+        this.frameBudgetNanos = frameBudgetNanos;
+    }
+
+    /**
+     * Ask for a new frame. Safe to call from any thread.
+     * @return true if a repaint was posted, false if it was merged into the pending one
+     */
+    public boolean requestFrame() {
+        long now = System.nanoTime();
+        if (framePending.compareAndSet(false, true)) {
+            pendingSince = now;
+            requestedFrames.incrementAndGet();
+            target.repaint();
+            return true;
+        }
+
+        coalescedFrames.incrementAndGet();
+        if (now - pendingSince > STALE_FRAME_NANOS) {
+            // The pending frame got lost, post it again
+            pendingSince = now;
+            target.repaint();
+        }
+        return false;
+    }
+
+    /**
+     * Mark the pending frame as painted. Called at the start of paintComponent on the EDT.
+     * Render slots that passed while the frame was waiting in the queue count as dropped.
+     */
+    public void frameStarted() {
+        if (framePending.getAndSet(false)) {
+            long waited = System.nanoTime() - pendingSince;
+            if (waited > frameBudgetNanos) {
+                droppedFrames.addAndGet(waited / frameBudgetNanos);
+            }
+        }
+        paintedFrames.incrementAndGet();
+    }
+
+    public boolean isFramePending() {
+        return framePending.get();
+    }
+
+    public long getRequestedFrames() {
+        return requestedFrames.get();
+    }
+
+    public long getPaintedFrames() {
+        return paintedFrames.get();
+    }
+
+    public long getCoalescedFrames() {
+        return coalescedFrames.get();
+    }
+
+    public long getDroppedFrames() {
+        return droppedFrames.get();
+    }
+
+    public void resetStatistics() {
+        requestedFrames.set(0);
+        paintedFrames.set(0);
+        coalescedFrames.set(0);
+        droppedFrames.set(0);
+    }
+
+    // Short summary for debug output
+    public String describeFrames() {
+        return "Frames: painted " + paintedFrames.get() + ", coalesced " + coalescedFrames.get()
+                + ", dropped " + droppedFrames.get();
+    }
+}
@@ -0,0 +1,106 @@
+package game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Last frame of a mostly static screen (menus, lists), kept offscreen so the next frames only repaint
+ * what changed.
+ * With every frame the screen passes a signature of its static content and adds the regions its moving
+ * elements covered (e.g. the menu ball before and after it moved, a scrolling list):
+ * - different signature, invalidate(), resize, or FULL_FRAME_INTERVAL frames since the last full one:
+ *   the whole frame is drawn again
+ * - otherwise only the dirty regions are drawn, clipped, over the pixels kept from the previous frame
+ * - nothing dirty: the kept frame is blitted as it is
+ * The periodic full frame puts right anything a screen forgot to declare.
+ */
+public class RetainedFrame {
+
+    /**
+     * Draws the complete screen (it is clipped to the dirty regions on partial frames)
+     */
+    public interface Renderer {
+        void render(Graphics2D g);
+    }
+
+    private static final int FULL_FRAME_INTERVAL = 30;
+
+    private BufferedImage image;
+    private volatile boolean valid = false;
+    private long signature;
+    private int framesSinceFull = 0;
+    private final Rectangle dirty = new Rectangle();
+    private boolean hasDirty = false;
+
+    // Counters (read by the debug screen)
+    private long fullFrames = 0;
+    private long partialFrames = 0;
+    private long reusedFrames = 0;
+
+    // Draw the whole frame next time (e.g. after input changed something on screen)
+    public void invalidate() {
+        valid = false;
+    }
+
+    public void addDirty(Rectangle region) {
+        if (region == null || region.isEmpty()) {
+            return;
+        }
+        if (hasDirty) {
+            dirty.add(region);
+        } else {
+            dirty.setBounds(region);
+            hasDirty = true;
+        }
+    }
+
+    /**
+     * Bring the kept frame up to date and blit it at 0,0.
+     * @param signature identity of the static content; any change redraws the whole frame
+     */
+    public void draw(Graphics2D g, GraphicsConfiguration gc, int width, int height, long signature, Renderer renderer) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            image = gc != null
+                ? gc.createCompatibleImage(width, height, Transparency.OPAQUE)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            valid = false;
+        }
+
+        boolean full = !valid || signature != this.signature || framesSinceFull >= FULL_FRAME_INTERVAL;
+        valid = true;
+        this.signature = signature;
+        if (full || hasDirty) {
+            Graphics2D ig = image.createGraphics();
+            try {
+                if (!full) {
+                    ig.clip(dirty);
+                }
+                renderer.render(ig);
+            } finally {
+                ig.dispose();
+            }
+        }
+        if (full) {
+            fullFrames++;
+            framesSinceFull = 0;
+        } else {
+            framesSinceFull++;
+            if (hasDirty) {
+                partialFrames++;
+            } else {
+                reusedFrames++;
+            }
+        }
+        hasDirty = false;
+
+        g.drawImage(image, 0, 0, null);
+    }
+
+    // Short summary for debug output
+    public String describeFrames() {
+        return "Retained frames: full " + fullFrames + ", partial " + partialFrames + ", reused " + reusedFrames;
+    }
+}
@@ -0,0 +1,57 @@
+package game;
+
+/**
+ * The last N values of a statistic (rally lengths, ball speeds) in a primitive ring buffer, with a running
+ * sum so the average costs nothing. Replaces the boxed lists trimmed with remove(0) and averaged with a
+ * stream on every AI update.
+ */
+public class RollingWindow {
+
+    private final double[] values;
+    private int next = 0;
+    private int count = 0;
+    private double sum = 0.0;
+
+    public RollingWindow(int capacity) {
+        this.values = new double[capacity];
+    }
+
+    // Add a value, dropping the oldest one when full
+    public void add(double value) {
+        if (count == values.length) {
+            sum -= values[next];
+        } else {
+            count++;
+        }
+        values[next] = value;
+        sum += value;
+        next = next + 1 == values.length ? 0 : next + 1;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    // Average of the values kept, 0 when empty
+    public double average() {
+        return count == 0 ? 0.0 : sum / count;
+    }
+
+    public void clear() {
+        next = 0;
+        count = 0;
+        sum = 0.0;
+    }
+
+    // Same values, same order (both windows must have the same capacity)
+    public void copyFrom(RollingWindow other) {
+        System.arraycopy(other.values, 0, values, 0, values.length);
+        next = other.next;
+        count = other.count;
+        sum = other.sum;
+    }
+}
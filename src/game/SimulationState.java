@@ -0,0 +1,79 @@
+package game;
+
+import java.util.Random;
+
+/**
+ * Everything PongSimulation needs to step a classic match: board geometry, ball, paddles,
+ * input, AI state and the statistics the adaptive AI looks at.
+ * Plain data with no AWT/Swing types, so it can be created and stepped headless.
+ */
+public class SimulationState {
+
+    // Board geometry (already scaled to the window, like GameContext)
+    public int boardWidth = 800;
+    public int boardHeight = 600;
+    public int paddleWidth = 20;
+    public int paddleHeight = 80;
+    public int ballSize = 20;
+    public double scaleX = 1.0;
+    public double scaleY = 1.0;
+
+    // Settings
+    public boolean singlePlayer = true;
+    public int paddleSpeedSetting = 1; // 0 = Lenta, 1 = Media, 2 = Veloce
+    public int aiDifficultySetting = 2; // 0-4 (0 = Facile, 4 = Impossibile)
+    public int ballSpeedSetting = 25; // Max ball speed after a reset
+
+    // Input (held keys)
+    public boolean leftUp, leftDown;
+    public boolean rightUp, rightDown;
+
+    // Ball
+    public double ballX = 400;
+    public double ballY = 300;
+    public double ballVX = 4;
+    public double ballVY = 4;
+    public double maxBallSpeed = 20;
+    public double minBallSpeed = 3.0;
+
+    // Paddles (paddle2Y follows aiPaddleY in single player)
+    public int paddle1Y = 250;
+    public int paddle2Y = 250;
+    public int prevPaddle1Y = 250;
+    public int prevPaddle2Y = 250;
+    public double aiPaddleY = 250.0;
+    public double aiCurrentVelocity = 0.0;
+
+    // Score and rally
+    public int score1 = 0;
+    public int score2 = 0;
+    public int rallies = 0;
+    public int currentRallyHits = 0;
+
+    // Fire ball rules (consecutive paddle bounces without touching a wall)
+    public int consecutivePaddleBounces = 0;
+    public boolean doublePointsActive = false;
+    public boolean unlimitedSpeedActive = false;
+
+    // Adaptive AI tracking
+    public int playerWinStreak = 0;
+    public int aiWinStreak = 0;
+    public int lastPointWinner = 0; // 1=player, 2=AI, 0=none yet
+    public int consecutiveMissedShots = 0;
+    public RollingWindow rallyDurations = new RollingWindow(PongSimulation.RALLY_HISTORY);     // Milliseconds
+    public RollingWindow rallyHitCounts = new RollingWindow(PongSimulation.RALLY_HISTORY);
+    public RollingWindow ballSpeedHistory = new RollingWindow(PongSimulation.BALL_SPEED_HISTORY);
+    public double averageRallyLength = 0.0;
+
+    // Clock (milliseconds). The interactive game uses wall clock time, deterministic and batch runs
+    // derive it from the tick counter (see PongSimulation.tickTime)
+    public long tick = 0; // Ticks stepped since the match started
+    public long timeMillis = 0;
+    public int tickRate = 60; // Ticks per second of the tick clock
+    public long gameStartTime = 0;
+    public long currentRallyStartTime = 0;
+    public long lastAIUpdate = 0;
+    public long lastBallDirectionChange = 0;
+
+    public Random random = new Random();
+}
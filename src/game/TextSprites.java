@@ -0,0 +1,255 @@
+package game;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Pre-rendered labels: each string is rasterized once (with its glow or rotation) into a small translucent
+ * image and then drawn with a single blit, instead of running the glyph pipeline once per glow pass every frame.
+ * The sprite only keeps the opaque color: the alpha of the current color (fades) is applied as an extra
+ * composite alpha, so a fading label keeps using the same sprite.
+ * A sprite is keyed by string, font, opaque color, glow color and offset, rotation, the three text
+ * rendering hints and the Graphics scale, all of which change the rasterized pixels.
+ * Call clear() on language switch and resize.
+ * Under a scale (InternalResolution buffer) the sprite is rasterized at that scale and blitted in device pixels.
+ *
+ * Falls back to plain drawString when a blit would not look the same: rotated or sheared Graphics,
+ * a composite other than SrcOver, or a paint that is not a plain Color.
+ */
+public class TextSprites {
+
+    private static final int SLOTS = 1 << 9;
+
+    private Sprite[] sprites = new Sprite[SLOTS];
+    private long rasterizeCount = 0;
+    private final AffineTransform deviceTransform = new AffineTransform();
+
+    /**
+     * Same as g.drawString(text, x, y) with the current font and color
+     */
+    public void drawString(Graphics2D g, String text, int x, int y) {
+        draw(g, text, x, y, null, 0, 0.0, 1.0f);
+    }
+
+    /**
+     * Text drawn over a diagonal glow: the glow color at offsets (-i, -i) and (i, i) for i = 1..glowOffset,
+     * then the text in the current color. The whole label is faded by alpha (0-1).
+     */
+    public void drawGlowString(Graphics2D g, String text, int x, int y, Color glowColor, int glowOffset, float alpha) {
+        draw(g, text, x, y, glowColor, glowOffset, 0.0, alpha);
+    }
+
+    /**
+     * Same as rotating g by theta around (x, y) and drawing the text there
+     */
+    public void drawRotatedString(Graphics2D g, String text, int x, int y, double theta) {
+        draw(g, text, x, y, null, 0, theta, 1.0f);
+    }
+
+    public void clear() {
+        sprites = new Sprite[SLOTS];
+    }
+
+    public long getRasterizeCount() {
+        return rasterizeCount;
+    }
+
+    private void draw(Graphics2D g, String text, int x, int y, Color glowColor, int glowOffset, double theta, float alpha) {
+        Composite composite = g.getComposite();
+        Paint paint = g.getPaint();
+        AffineTransform transform = g.getTransform();
+        if (text.isEmpty() || !(paint instanceof Color) || !isSrcOver(composite)
+                || !InternalResolution.isScaleTranslate(transform)) {
+            drawDirect(g, text, x, y, glowColor, glowOffset, theta, alpha);
+            return;
+        }
+
+        Color color = (Color) paint;
+        Font font = g.getFont();
+        Object textHint = g.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING);
+        Object antialiasHint = g.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+        Object metricsHint = g.getRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS);
+        int rgb = color.getRGB() | 0xFF000000;
+        int glowArgb = glowColor != null ? glowColor.getRGB() : 0;
+        boolean scaled = InternalResolution.isScaled(transform);
+        double scaleX = scaled ? transform.getScaleX() : 1.0;
+        double scaleY = scaled ? transform.getScaleY() : 1.0;
+
+        int hash = text.hashCode();
+        hash = hash * 31 + font.hashCode();
+        hash = hash * 31 + rgb;
+        hash = hash * 31 + glowArgb;
+        hash = hash * 31 + glowOffset;
+        hash = hash * 31 + Double.hashCode(theta);
+        hash = hash * 31 + System.identityHashCode(textHint);
+        hash = hash * 31 + System.identityHashCode(antialiasHint);
+        hash = hash * 31 + System.identityHashCode(metricsHint);
+        hash = hash * 31 + Double.hashCode(scaleX);
+        hash = hash * 31 + Double.hashCode(scaleY);
+        int slot = ColorCache.slot(hash, SLOTS);
+
+        Sprite[] table = sprites;
+        Sprite sprite = table[slot];
+        if (sprite == null || !sprite.matches(text, font, rgb, glowArgb, glowOffset, theta, textHint, antialiasHint, metricsHint,
+                scaleX, scaleY)) {
+            sprite = rasterize(g, text, font, rgb, glowColor, glowOffset, theta, textHint, antialiasHint, metricsHint,
+                    scaleX, scaleY);
+            table[slot] = sprite;
+        }
+
+        // Alpha of the current color and the fade go into the composite
+        float extraAlpha = alpha * color.getAlpha() / 255f;
+        if (composite instanceof AlphaComposite) {
+            extraAlpha *= ((AlphaComposite) composite).getAlpha();
+        }
+        if (extraAlpha <= 0f) {
+            return;
+        }
+        if (extraAlpha < 1f) {
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, Math.min(1f, extraAlpha)));
+        }
+        if (scaled) {
+            g.setTransform(InternalResolution.deviceTranslation(transform, deviceTransform));
+            g.drawImage(sprite.image, (int) Math.round(x * scaleX) + sprite.offsetX,
+                    (int) Math.round(y * scaleY) + sprite.offsetY, null);
+            g.setTransform(transform);
+        } else {
+            g.drawImage(sprite.image, x + sprite.offsetX, y + sprite.offsetY, null);
+        }
+        if (extraAlpha < 1f) {
+            g.setComposite(composite);
+        }
+    }
+
+    private static boolean isSrcOver(Composite composite) {
+        return composite instanceof AlphaComposite && ((AlphaComposite) composite).getRule() == AlphaComposite.SRC_OVER;
+    }
+
+    private Sprite rasterize(Graphics2D g, String text, Font font, int rgb, Color glowColor, int glowOffset, double theta,
+                             Object textHint, Object antialiasHint, Object metricsHint, double scaleX, double scaleY) {
+        FontRenderContext frc = g.getFontRenderContext();
+        Rectangle2D bounds = font.createGlyphVector(frc, text).getVisualBounds();
+        // Room for antialiasing and the glow passes
+        int pad = 2 + glowOffset;
+        Rectangle2D padded = new Rectangle2D.Double(bounds.getX() - pad, bounds.getY() - pad,
+                bounds.getWidth() + pad * 2, bounds.getHeight() + pad * 2);
+        boolean scaled = scaleX != 1.0 || scaleY != 1.0;
+        AffineTransform spriteTransform = null;
+        if (scaled || theta != 0.0) {
+            // Sprite pixels are device pixels: scale, then the rotation around the text origin
+            spriteTransform = AffineTransform.getScaleInstance(scaleX, scaleY);
+            spriteTransform.rotate(theta);
+        }
+        Rectangle area = spriteTransform != null
+            ? spriteTransform.createTransformedShape(padded).getBounds()
+            : padded.getBounds();
+
+        BufferedImage image = new BufferedImage(Math.max(1, area.width), Math.max(1, area.height), BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D ig = image.createGraphics();
+        try {
+            setHint(ig, RenderingHints.KEY_TEXT_ANTIALIASING, textHint);
+            setHint(ig, RenderingHints.KEY_ANTIALIASING, antialiasHint);
+            setHint(ig, RenderingHints.KEY_FRACTIONALMETRICS, metricsHint);
+            ig.translate(-area.x, -area.y);
+            if (spriteTransform != null) {
+                ig.transform(spriteTransform);
+            }
+            ig.setFont(font);
+            drawLayers(ig, text, 0, 0, new Color(rgb), glowColor, glowOffset);
+        } finally {
+            ig.dispose();
+        }
+        rasterizeCount++;
+        return new Sprite(text, font, rgb, glowColor != null ? glowColor.getRGB() : 0, glowOffset, theta,
+                textHint, antialiasHint, metricsHint, scaleX, scaleY, image, area.x, area.y);
+    }
+
+    private static void setHint(Graphics2D g, RenderingHints.Key key, Object value) {
+        if (value != null) {
+            g.setRenderingHint(key, value);
+        }
+    }
+
+    // Glow passes and text, as the draw code used to do it directly on the frame
+    private static void drawLayers(Graphics2D g, String text, int x, int y, Color color, Color glowColor, int glowOffset) {
+        if (glowColor != null) {
+            g.setColor(glowColor);
+            for (int i = 1; i <= glowOffset; i++) {
+                g.drawString(text, x - i, y - i);
+                g.drawString(text, x + i, y + i);
+            }
+        }
+        g.setColor(color);
+        g.drawString(text, x, y);
+    }
+
+    private static void drawDirect(Graphics2D g, String text, int x, int y, Color glowColor, int glowOffset,
+                                   double theta, float alpha) {
+        Paint paint = g.getPaint();
+        Composite composite = g.getComposite();
+        AffineTransform transform = g.getTransform();
+        if (alpha < 1f) {
+            float extraAlpha = composite instanceof AlphaComposite ? ((AlphaComposite) composite).getAlpha() * alpha : alpha;
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, Math.max(0f, Math.min(1f, extraAlpha))));
+        }
+        if (theta != 0.0) {
+            g.rotate(theta, x, y);
+        }
+        if (glowColor != null && paint instanceof Color) {
+            drawLayers(g, text, x, y, (Color) paint, glowColor, glowOffset);
+        } else {
+            g.drawString(text, x, y);
+        }
+        g.setTransform(transform);
+        g.setComposite(composite);
+        g.setPaint(paint);
+    }
+
+    private static final class Sprite {
+        final String text;
+        final Font font;
+        final int rgb;
+        final int glowArgb;
+        final int glowOffset;
+        final double theta;
+        final Object textHint;
+        final Object antialiasHint;
+        final Object metricsHint;
+        final double scaleX;
+        final double scaleY;
+        final BufferedImage image;
+        final int offsetX;
+        final int offsetY;
+
+        Sprite(String text, Font font, int rgb, int glowArgb, int glowOffset, double theta, Object textHint,
+               Object antialiasHint, Object metricsHint, double scaleX, double scaleY, BufferedImage image,
+               int offsetX, int offsetY) {
+            this.text = text;
+            this.font = font;
+            this.rgb = rgb;
+            this.glowArgb = glowArgb;
+            this.glowOffset = glowOffset;
+            this.theta = theta;
+            this.textHint = textHint;
+            this.antialiasHint = antialiasHint;
+            this.metricsHint = metricsHint;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            this.image = image;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+        }
+
+        boolean matches(String text, Font font, int rgb, int glowArgb, int glowOffset, double theta,
+                        Object textHint, Object antialiasHint, Object metricsHint, double scaleX, double scaleY) {
+            return this.rgb == rgb && this.glowArgb == glowArgb && this.glowOffset == glowOffset
+                    && this.scaleX == scaleX && this.scaleY == scaleY
+                    && this.theta == theta && this.textHint == textHint && this.antialiasHint == antialiasHint
+                    && this.metricsHint == metricsHint && this.text.equals(text)
+                    && (this.font == font || this.font.equals(font));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Downscaled copies of the theme images for the selection grids.
+ * Each theme gets a mip chain (every level half the size of the previous one, filtered bilinearly),
+ * built by a background thread after the themes are loaded. The grids ask for the size they draw at and
+ * get the smallest level that is still at least that big, so a card never scales a full-size background
+ * down to a few pixels wide. Until its chain is ready an image is served as it is.
+ */
+public final class ThumbnailCache {
+
+    // Smallest level kept (either side)
+    private static final int MIN_LEVEL_SIZE = 16;
+
+    private static final Map<Image, BufferedImage[]> chains = new ConcurrentHashMap<>();
+    private static final BlockingQueue<BufferedImage> pending = new LinkedBlockingQueue<>();
+    private static final Map<Image, Boolean> queued = new ConcurrentHashMap<>();
+    private static Thread builder;
+
+    private ThumbnailCache() {
+    }
+
+    /**
+     * Build the mip chains of these images in the background (null entries are skipped)
+     */
+    public static void prepare(List<? extends Image> images) {
+        for (Image image : images) {
+            if (image instanceof BufferedImage) {
+                enqueue((BufferedImage) image);
+            }
+        }
+    }
+
+    /**
+     * The image to draw source at width x height: the smallest ready level not smaller than that size,
+     * or source itself (bigger target, chain not built yet, or not a BufferedImage)
+     */
+    public static Image get(Image source, int width, int height) {
+        BufferedImage[] chain = chains.get(source);
+        if (chain == null) {
+            if (source instanceof BufferedImage) {
+                enqueue((BufferedImage) source);
+            }
+            return source;
+        }
+        for (int level = chain.length - 1; level > 0; level--) {
+            BufferedImage candidate = chain[level];
+            if (candidate.getWidth() >= width && candidate.getHeight() >= height) {
+                return candidate;
+            }
+        }
+        return source;
+    }
+
+    private static void enqueue(BufferedImage image) {
+        if (chains.containsKey(image) || queued.putIfAbsent(image, Boolean.TRUE) != null) {
+            return;
+        }
+        pending.add(image);
+        startBuilder();
+    }
+
+    private static synchronized void startBuilder() {
+        if (builder != null) {
+            return;
+        }
+        builder = new Thread(() -> {
+            try {
+                while (true) {
+                    BufferedImage image = pending.take();
+                    try {
+                        chains.put(image, buildChain(image));
+                    } catch (RuntimeException | OutOfMemoryError e) {
+                        // Keep drawing the full image
+                        System.out.println("[Performance] Thumbnail chain failed: " + e);
+                    } finally {
+                        queued.remove(image);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "ThumbnailBuilder");
+        builder.setDaemon(true);
+        builder.setPriority(Thread.MIN_PRIORITY);
+        builder.start();
+    }
+
+    // Level 0 is the source, then halves down to MIN_LEVEL_SIZE
+    private static BufferedImage[] buildChain(BufferedImage source) {
+        int levels = 1;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        while (width / 2 >= MIN_LEVEL_SIZE && height / 2 >= MIN_LEVEL_SIZE) {
+            width /= 2;
+            height /= 2;
+            levels++;
+        }
+
+        BufferedImage[] chain = new BufferedImage[levels];
+        chain[0] = source;
+        int type = source.getTransparency() == Transparency.OPAQUE
+            ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE;
+        for (int level = 1; level < levels; level++) {
+            BufferedImage previous = chain[level - 1];
+            BufferedImage next = new BufferedImage(previous.getWidth() / 2, previous.getHeight() / 2, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(previous, 0, 0, next.getWidth(), next.getHeight(), null);
+            } finally {
+                g.dispose();
+            }
+            chain[level] = next;
+        }
+        return chain;
+    }
+}
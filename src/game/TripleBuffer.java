@@ -0,0 +1,67 @@
+package game;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free triple buffer for handing data from one producer thread to one consumer thread.
+ * The producer always owns a "back" slot it can fill at leisure, the consumer always owns
+ * a "front" slot it can read at leisure, and the third slot sits in the middle holding the
+ * latest published value. Publishing and acquiring are a single atomic swap each, so neither
+ * side ever blocks or copies, and the consumer always sees the newest complete value.
+ *
+ * Only one thread may call {@link #getBackBuffer()}/{@link #publish()} and only one
+ * (other) thread may call {@link #acquire()}.
+ */
+public class TripleBuffer<T> {
+
+    // The middle slot index lives in the low bits, FRESH marks a value the consumer has not seen yet
+    private static final int INDEX_MASK = 0x3;
+    private static final int FRESH = 0x4;
+
+    private final Object[] slots = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int backIndex = 0;  // Owned by the producer
+    private int frontIndex = 2; // Owned by the consumer
+
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = factory.get();
+        }
+    }
+
+    /**
+     * Slot the producer fills before calling {@link #publish()}. Producer thread only.
+     */
+    @SuppressWarnings("unchecked")
+    public T getBackBuffer() {
+        return (T) slots[backIndex];
+    }
+
+    /**
+     * Make the back slot the latest value and take the old middle slot as the new back slot.
+     * Producer thread only.
+     */
+    public void publish() {
+        backIndex = middle.getAndSet(backIndex | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Latest published value. Returns the same slot as the previous call if nothing new
+     * was published in between. Consumer thread only.
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            frontIndex = middle.getAndSet(frontIndex) & INDEX_MASK;
+        }
+        return (T) slots[frontIndex];
+    }
+
+    /**
+     * True if a value was published that {@link #acquire()} has not returned yet
+     */
+    public boolean hasFreshValue() {
+        return (middle.get() & FRESH) != 0;
+    }
+}
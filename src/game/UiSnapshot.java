@@ -0,0 +1,51 @@
+package game;
+
+import context.SettingsContext;
+
+/**
+ * Copy of the UI state owned by the EDT (selections, hover, scroll offsets) taken for the frames to draw.
+ * The input handlers and the Swing timers write the live fields on the EDT; the draw code reads this copy,
+ * handed over through a {@link TripleBuffer} like {@link RenderSnapshot}, so the render thread of active
+ * rendering never waits for the EDT and the EDT never waits for a frame.
+ * Passive rendering copies right before painting (it is already on the EDT), active rendering asks the EDT
+ * for a copy at every frame and draws with the latest one published.
+ * Defaults match the context fields, for frames drawn before the first copy.
+ */
+public class UiSnapshot {
+
+    // Home menu
+    int selectedMenuItem;
+    boolean isUsingKeyboardNavigation;
+    boolean mouseOnBackground;
+    boolean leftPaddleSelected, rightPaddleSelected;
+    boolean modalitaTrapezoidHovered, advancementTrapezoidHovered, settingsTrapezoidHovered;
+
+    // Game mode selection
+    int selectedGameMode;
+    boolean leftArrowHovered, rightArrowHovered;
+
+    // Settings
+    int selectedCategory;
+    int selectedCategorySetting;
+    boolean inCategoryColumn = true;
+    SettingsContext.HoverState currentHoverState = SettingsContext.HoverState.NONE;
+    int hoveredCategory = -1;
+    int hoveredSetting = -1;
+    boolean isUsingKeyboardNavigationSettings;
+    int waitingForKeyInput = -1;
+
+    // Themes and paddle grids
+    int selectedBackground, selectedBackgroundOption;
+    int selectedPaddleTheme, selectedRightPaddleTheme;
+    double paddleGridScrollY, rightPaddleGridScrollY;
+
+    // History
+    int selectedHistoryMode, selectedHistoryCard, historyScrollOffset;
+
+    // Advancement (scroll offset per tab)
+    int advancementSelectedTab, advancementSelectedItem;
+    final int[] advancementScrollOffset = new int[4];
+
+    // Debug screen
+    int debugSelection;
+}
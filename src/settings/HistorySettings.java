@@ -12,8 +12,12 @@ public class HistorySettings {
 
     // Load game history from file
     public void loadGameHistory() {
+        loadGameHistory(HISTORY_FILE);
+    }
+
+    public void loadGameHistory(String historyFile) {
         gameHistory.clear();
-        try (BufferedReader br = new BufferedReader(new FileReader(HISTORY_FILE))) {
+        try (BufferedReader br = new BufferedReader(new FileReader(historyFile))) {
             String line;
             while ((line = br.readLine()) != null) {
                 if (!line.trim().isEmpty() && !line.startsWith("#")) {